@@ -0,0 +1,173 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.engine;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Test;
+import org.sonarlint.eclipse.core.internal.TriggerType;
+import org.sonarsource.sonarlint.core.commons.progress.CanceledException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AnalysisQueueTest {
+
+  private final AnalysisQueue queue = new AnalysisQueue();
+  private final List<String> events = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void interactive_analysis_should_preempt_background_analysis() throws Exception {
+    var backgroundStarted = new CountDownLatch(1);
+    var attempts = new AtomicInteger();
+    var background = CompletableFuture.supplyAsync(() -> queue.run(TriggerType.MANUAL, new NullProgressMonitor(), m -> {
+      events.add("background started");
+      if (attempts.incrementAndGet() == 1) {
+        backgroundStarted.countDown();
+        waitUntilCanceled(m);
+      }
+      events.add("background done");
+      return "background result";
+    }));
+    assertThat(backgroundStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    var interactive = queue.run(TriggerType.EDITOR_CHANGE, new NullProgressMonitor(), m -> {
+      events.add("interactive");
+      return "interactive result";
+    });
+
+    assertThat(interactive).isEqualTo("interactive result");
+    assertThat(background.get(10, TimeUnit.SECONDS)).isEqualTo("background result");
+    assertThat(events).containsExactly("background started", "interactive", "background started", "background done");
+  }
+
+  @Test
+  public void should_run_waiting_analyses_by_priority() throws Exception {
+    var firstStarted = new CountDownLatch(1);
+    var releaseFirst = new CountDownLatch(1);
+    var first = CompletableFuture.runAsync(() -> queue.run(TriggerType.EDITOR_OPEN, new NullProgressMonitor(), m -> {
+      firstStarted.countDown();
+      await(releaseFirst);
+      return null;
+    }));
+    assertThat(firstStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    var manual = CompletableFuture.runAsync(() -> queue.run(TriggerType.MANUAL, new NullProgressMonitor(), m -> events.add("manual")));
+    waitForQueued(1);
+    var editorChange = CompletableFuture.runAsync(() -> queue.run(TriggerType.EDITOR_CHANGE, new NullProgressMonitor(), m -> events.add("editor change")));
+    waitForQueued(2);
+    releaseFirst.countDown();
+
+    CompletableFuture.allOf(first, manual, editorChange).get(10, TimeUnit.SECONDS);
+    assertThat(events).containsExactly("editor change", "manual");
+  }
+
+  @Test
+  public void background_analysis_should_not_be_preempted_forever() throws Exception {
+    var backgroundStarted = new Semaphore(0);
+    var releaseBackground = new CountDownLatch(1);
+    var attempts = new AtomicInteger();
+    var background = CompletableFuture.supplyAsync(() -> queue.run(TriggerType.MANUAL, new NullProgressMonitor(), m -> {
+      backgroundStarted.release();
+      if (attempts.incrementAndGet() <= AnalysisQueue.MAX_PREEMPTIONS) {
+        waitUntilCanceled(m);
+      }
+      await(releaseBackground);
+      events.add("background done, canceled: " + m.isCanceled());
+      return null;
+    }));
+    for (var i = 0; i < AnalysisQueue.MAX_PREEMPTIONS; i++) {
+      assertThat(backgroundStarted.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+      queue.run(TriggerType.EDITOR_CHANGE, new NullProgressMonitor(), m -> events.add("interactive"));
+    }
+    assertThat(backgroundStarted.tryAcquire(10, TimeUnit.SECONDS)).isTrue();
+
+    var lastInteractive = CompletableFuture.runAsync(() -> queue.run(TriggerType.EDITOR_CHANGE, new NullProgressMonitor(), m -> events.add("last interactive")));
+    waitForQueued(1);
+    releaseBackground.countDown();
+
+    CompletableFuture.allOf(background, lastInteractive).get(10, TimeUnit.SECONDS);
+    assertThat(attempts.get()).isEqualTo(AnalysisQueue.MAX_PREEMPTIONS + 1);
+    assertThat(events).containsExactly("interactive", "interactive", "interactive", "background done, canceled: false", "last interactive");
+  }
+
+  @Test
+  public void should_stop_waiting_when_canceled() throws Exception {
+    var firstStarted = new CountDownLatch(1);
+    var releaseFirst = new CountDownLatch(1);
+    var first = CompletableFuture.runAsync(() -> queue.run(TriggerType.EDITOR_CHANGE, new NullProgressMonitor(), m -> {
+      firstStarted.countDown();
+      await(releaseFirst);
+      return null;
+    }));
+    assertThat(firstStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+    var canceledMonitor = new NullProgressMonitor();
+    canceledMonitor.setCanceled(true);
+    assertThatThrownBy(() -> queue.run(TriggerType.EDITOR_CHANGE, canceledMonitor, m -> events.add("canceled")))
+      .isInstanceOf(CanceledException.class);
+
+    releaseFirst.countDown();
+    first.get(10, TimeUnit.SECONDS);
+    assertThat(events).isEmpty();
+  }
+
+  private static void waitUntilCanceled(IProgressMonitor monitor) {
+    var deadline = System.currentTimeMillis() + 10_000;
+    while (System.currentTimeMillis() < deadline) {
+      if (monitor.isCanceled()) {
+        throw new CanceledException();
+      }
+      sleep(10);
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void waitForQueued(int expectedWaitingCount) {
+    var deadline = System.currentTimeMillis() + 10_000;
+    while (queue.waitingCount() < expectedWaitingCount) {
+      assertThat(System.currentTimeMillis()).as("Analysis not queued in time").isLessThan(deadline);
+      sleep(10);
+    }
+  }
+
+  private static void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.engine.connected;
+
+import java.util.Set;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ProjectScope;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
+import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfiguration.EclipseProjectBinding;
+import org.sonarlint.eclipse.tests.common.SonarTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class ConnectedEngineFacadeTest extends SonarTestCase {
+
+  private static final String CONNECTION_ID = "myConnection";
+  private static final String PROJECT_KEY = "myProjectKey";
+
+  private static IProject project;
+
+  @BeforeClass
+  public static void importProject() throws Exception {
+    project = importEclipseProject("SimpleNonJdtProject");
+  }
+
+  @After
+  public void clearBinding() {
+    saveBinding(null);
+  }
+
+  @Test
+  public void should_keep_bound_projects_without_elected_branch() {
+    saveBinding(new EclipseProjectBinding(CONNECTION_ID, PROJECT_KEY, "", ""));
+    var facade = new ConnectedEngineFacade(CONNECTION_ID);
+
+    var projectBranches = facade.getActiveProjectBranches(Set.of(PROJECT_KEY), p -> null);
+
+    assertThat(projectBranches).extracting(pb -> pb.getKey(), pb -> pb.getValue()).containsExactly(tuple(PROJECT_KEY, null));
+  }
+
+  private static void saveBinding(EclipseProjectBinding binding) {
+    var configManager = SonarLintCorePlugin.getInstance().getProjectConfigManager();
+    var scope = new ProjectScope(project);
+    var configuration = configManager.load(scope, project.getName());
+    configuration.setProjectBinding(binding);
+    configManager.save(scope, configuration);
+  }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.engine.connected;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParallelSynchronizerTest {
+
+  @Test
+  public void should_run_tasks_concurrently_and_isolate_failures() {
+    var allStarted = new CountDownLatch(3);
+    var done = new CopyOnWriteArrayList<String>();
+
+    ParallelSynchronizer.runAll(List.of("a", "b", "c"), item -> "Failed " + item, (item, monitor) -> {
+      allStarted.countDown();
+      try {
+        // Would time out if tasks were run one after the other
+        assertThat(allStarted.await(10, TimeUnit.SECONDS)).isTrue();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if ("b".equals(item)) {
+        throw new IllegalStateException("Expected failure");
+      }
+      done.add(item);
+    }, new NullProgressMonitor());
+
+    assertThat(done).containsExactlyInAnyOrder("a", "c");
+  }
+
+  @Test
+  public void should_bound_concurrent_requests_per_server() {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+
+    ParallelSynchronizer.runAll(List.of(1, 2, 3, 4, 5, 6, 7, 8), item -> "Failed " + item,
+      (item, monitor) -> ParallelSynchronizer.withServerPermit("https://bounded.example", () -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+          Thread.sleep(50);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        running.decrementAndGet();
+      }), new NullProgressMonitor());
+
+    assertThat(maxRunning.get()).isBetween(1, 4);
+  }
+
+}
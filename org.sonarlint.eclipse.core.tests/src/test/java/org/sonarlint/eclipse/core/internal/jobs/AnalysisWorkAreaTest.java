@@ -0,0 +1,109 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.jobs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnalysisWorkAreaTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void should_reuse_released_work_dir() throws IOException {
+    var workArea = new AnalysisWorkArea(temp.getRoot().toPath());
+
+    var first = workArea.acquire();
+    var firstDir = first.getWorkDir();
+    first.close();
+
+    try (var second = workArea.acquire()) {
+      assertThat(second.getWorkDir()).isEqualTo(firstDir);
+    }
+  }
+
+  @Test
+  public void should_not_share_work_dir_between_concurrent_analyses() throws IOException {
+    var workArea = new AnalysisWorkArea(temp.getRoot().toPath());
+
+    try (var first = workArea.acquire(); var second = workArea.acquire()) {
+      assertThat(first.getWorkDir()).isNotEqualTo(second.getWorkDir());
+      assertThat(first.getWorkDir()).isDirectory();
+      assertThat(second.getWorkDir()).isDirectory();
+    }
+  }
+
+  @Test
+  public void should_clean_leftovers_when_leased_again() throws IOException {
+    var workArea = new AnalysisWorkArea(temp.getRoot().toPath());
+
+    try (var lease = workArea.acquire()) {
+      Files.createDirectories(lease.getWorkDir().resolve("sub"));
+      Files.writeString(lease.getWorkDir().resolve("sub/compile_commands.json"), "{}");
+    }
+
+    try (var lease = workArea.acquire()) {
+      assertThat(lease.getWorkDir()).isEmptyDirectory();
+    }
+  }
+
+  @Test
+  public void should_remove_legacy_temp_dirs() throws IOException {
+    var legacy = Files.createDirectories(temp.getRoot().toPath().resolve("sonarlint12345"));
+    var workArea = new AnalysisWorkArea(temp.getRoot().toPath());
+
+    workArea.acquire().close();
+
+    assertThat(legacy).doesNotExist();
+  }
+
+  @Test
+  public void should_only_remove_legacy_temp_dirs() throws IOException {
+    var other = Files.createDirectories(temp.getRoot().toPath().resolve("sonarlint-other"));
+    var workArea = new AnalysisWorkArea(temp.getRoot().toPath());
+
+    workArea.acquire().close();
+
+    assertThat(other).isDirectory();
+  }
+
+  @Test
+  public void should_remove_copies_of_deleted_remote_files() throws IOException {
+    var remoteCopies = temp.getRoot().toPath().resolve("analysis/remote-copies");
+    var kept = remoteCopies.resolve("src/kept.js");
+    var deleted = remoteCopies.resolve("src/deleted.js");
+    Files.createDirectories(kept.getParent());
+    Files.writeString(kept, "kept");
+    Files.writeString(deleted, "deleted");
+    var workArea = new AnalysisWorkArea(temp.getRoot().toPath(), "src/kept.js"::equals);
+
+    workArea.acquire().close();
+
+    assertThat(kept).exists();
+    assertThat(deleted).doesNotExist();
+  }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.markers;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
+import org.sonarlint.eclipse.core.internal.quickfixes.MarkerQuickFix;
+import org.sonarlint.eclipse.core.internal.quickfixes.MarkerQuickFixes;
+import org.sonarlint.eclipse.core.internal.quickfixes.MarkerTextEdit;
+import org.sonarlint.eclipse.tests.common.SonarTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class MarkerFlowsAndQuickFixesStoreTest extends SonarTestCase {
+
+  private static IProject project;
+  private static IFile file;
+
+  private final MarkerFlowsAndQuickFixesStore store = MarkerFlowsAndQuickFixesStore.get();
+
+  @BeforeClass
+  public static void importProject() throws Exception {
+    project = importEclipseProject("SimpleNonJdtProject");
+    file = project.getFile("src/main/sample.js");
+  }
+
+  @After
+  public void cleanup() throws Exception {
+    file.deleteMarkers(null, false, IResource.DEPTH_ZERO);
+  }
+
+  @Test
+  public void should_decode_flows() throws Exception {
+    var issueMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+    var locationMarker1 = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_FLOW_ID);
+    var locationMarker2 = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_FLOW_ID);
+    var flow1 = new MarkerFlow(1);
+    new MarkerFlowLocation(flow1, "message1").setMarker(locationMarker1);
+    new MarkerFlowLocation(flow1, "message11").setMarker(locationMarker2);
+    var flow2 = new MarkerFlow(2);
+    new MarkerFlowLocation(flow2, "message2", "other/file.js").setDeleted(true);
+
+    store.putFlows(issueMarker, new MarkerFlows(List.of(flow1, flow2)));
+
+    assertThat(store.getFlowsSummaryDescription(issueMarker)).isEqualTo(" [+2 flows]");
+    var flows = store.getFlows(issueMarker);
+    assertThat(flows.getFlows()).extracting(MarkerFlow::getNumber).containsExactly(1, 2);
+    assertThat(flows.allLocationsAsStream()).extracting(MarkerFlowLocation::getMessage, MarkerFlowLocation::getMarker, MarkerFlowLocation::getFilePath,
+      MarkerFlowLocation::isDeleted)
+      .containsExactly(
+        tuple("message1", locationMarker1, null, false),
+        tuple("message11", locationMarker2, null, false),
+        tuple("message2", null, "other/file.js", true));
+    assertThat(store.getFlows(issueMarker)).isSameAs(flows);
+  }
+
+  @Test
+  public void should_decode_quick_fixes() throws Exception {
+    var issueMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+    var editMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_QUICK_FIX_ID);
+    var qf = new MarkerQuickFix("Fix it");
+    qf.addTextEdit(new MarkerTextEdit(editMarker, "newText"));
+
+    store.putQuickFixes(issueMarker, new MarkerQuickFixes(List.of(qf)));
+
+    assertThat(store.hasQuickFixes(issueMarker)).isTrue();
+    var quickFixes = store.getQuickFixes(issueMarker).getQuickFixes();
+    assertThat(quickFixes).extracting(MarkerQuickFix::getMessage).containsExactly("Fix it");
+    assertThat(quickFixes.get(0).getTextEdits()).extracting(MarkerTextEdit::getMarker, MarkerTextEdit::getNewText)
+      .containsExactly(tuple(editMarker, "newText"));
+  }
+
+  @Test
+  public void should_evict_entries_of_deleted_markers() throws Exception {
+    var issueMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+    var flow = new MarkerFlow(1);
+    new MarkerFlowLocation(flow, "message1");
+    store.putFlows(issueMarker, new MarkerFlows(List.of(flow)));
+    store.putQuickFixes(issueMarker, new MarkerQuickFixes(List.of(new MarkerQuickFix("Fix it"))));
+    assertThat(store.getFlows(issueMarker).isEmpty()).isFalse();
+
+    issueMarker.delete();
+
+    assertThat(store.getFlows(issueMarker).isEmpty()).isTrue();
+    assertThat(store.getFlowsSummaryDescription(issueMarker)).isEmpty();
+    assertThat(store.hasQuickFixes(issueMarker)).isFalse();
+  }
+
+  @Test
+  public void should_keep_entries_of_moved_markers() throws Exception {
+    var source = project.getFile("src/main/toMove.js");
+    source.create(new ByteArrayInputStream("var a = 1;".getBytes(StandardCharsets.UTF_8)), true, null);
+    var issueMarker = source.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+    var flow = new MarkerFlow(1);
+    new MarkerFlowLocation(flow, "message1");
+    store.putFlows(issueMarker, new MarkerFlows(List.of(flow)));
+    store.putQuickFixes(issueMarker, new MarkerQuickFixes(List.of(new MarkerQuickFix("Fix it"))));
+
+    var target = project.getFile("src/main/moved.js");
+    source.move(target.getFullPath(), true, null);
+
+    try {
+      var movedMarker = target.getMarker(issueMarker.getId());
+      assertThat(movedMarker.exists()).isTrue();
+      assertThat(store.getFlows(movedMarker).allLocationsAsStream()).extracting(MarkerFlowLocation::getMessage).containsExactly("message1");
+      assertThat(store.hasQuickFixes(movedMarker)).isTrue();
+      assertThat(store.getFlows(issueMarker).isEmpty()).isTrue();
+    } finally {
+      target.delete(true, null);
+    }
+  }
+
+  @Test
+  public void should_keep_deleted_locations_after_eviction_of_decoded_flows() throws Exception {
+    var issueMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+    var flow = new MarkerFlow(1);
+    new MarkerFlowLocation(flow, "message1");
+    store.putFlows(issueMarker, new MarkerFlows(List.of(flow)));
+    store.getFlows(issueMarker).getFlows().get(0).getLocations().get(0).setDeleted(true);
+
+    for (var i = 0; i < 100; i++) {
+      var otherMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+      var otherFlow = new MarkerFlow(1);
+      new MarkerFlowLocation(otherFlow, "other");
+      store.putFlows(otherMarker, new MarkerFlows(List.of(otherFlow)));
+      store.getFlows(otherMarker);
+    }
+
+    assertThat(store.getFlows(issueMarker).allLocationsAsStream()).extracting(MarkerFlowLocation::isDeleted).containsExactly(true);
+  }
+
+  @Test
+  public void should_delete_location_markers_without_evicting_decoded_flows() throws Exception {
+    var selectedMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+    var selectedFlow = new MarkerFlow(1);
+    new MarkerFlowLocation(selectedFlow, "selected");
+    store.putFlows(selectedMarker, new MarkerFlows(List.of(selectedFlow)));
+    var selectedFlows = store.getFlows(selectedMarker);
+
+    for (var i = 0; i < 100; i++) {
+      var taintMarker = file.createMarker(SonarLintCorePlugin.MARKER_TAINT_ID);
+      var locationMarker = file.createMarker(SonarLintCorePlugin.MARKER_TAINT_FLOW_ID);
+      var taintFlow = new MarkerFlow(1);
+      new MarkerFlowLocation(taintFlow, "taint").setMarker(locationMarker);
+      store.putFlows(taintMarker, new MarkerFlows(List.of(taintFlow)));
+
+      store.deleteLocationMarkers(taintMarker);
+      taintMarker.delete();
+
+      assertThat(locationMarker.exists()).isFalse();
+    }
+
+    assertThat(store.getFlows(selectedMarker)).isSameAs(selectedFlows);
+  }
+
+  @Test
+  public void should_describe_resolutions_without_decoding() throws Exception {
+    var issueMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_ID);
+    assertThat(store.getResolutions(issueMarker).getQuickFixes()).isEmpty();
+    assertThat(store.getResolutions(issueMarker).hasFlows()).isFalse();
+
+    var editMarker = file.createMarker(SonarLintCorePlugin.MARKER_ON_THE_FLY_QUICK_FIX_ID);
+    var qf = new MarkerQuickFix("Fix it");
+    qf.addTextEdit(new MarkerTextEdit(editMarker, "newText"));
+    store.putQuickFixes(issueMarker, new MarkerQuickFixes(List.of(qf)));
+    var flow = new MarkerFlow(1);
+    new MarkerFlowLocation(flow, "message1");
+    store.putFlows(issueMarker, new MarkerFlows(List.of(flow)));
+
+    var resolutions = store.getResolutions(issueMarker);
+    assertThat(resolutions.hasFlows()).isTrue();
+    assertThat(resolutions.isSecondaryLocations()).isTrue();
+    assertThat(resolutions.getQuickFixes()).hasSize(1);
+    var quickFix = resolutions.getQuickFixes().get(0);
+    assertThat(quickFix.getMessage()).isEqualTo("Fix it");
+    assertThat(quickFix.isValid(issueMarker)).isTrue();
+    assertThat(quickFix.decode(issueMarker).getTextEdits()).extracting(MarkerTextEdit::getMarker).containsExactly(editMarker);
+
+    editMarker.delete();
+    assertThat(quickFix.isValid(issueMarker)).isFalse();
+
+    issueMarker.delete();
+    assertThat(store.getResolutions(issueMarker).hasFlows()).isFalse();
+  }
+
+}
@@ -120,4 +120,23 @@ public class SonarLintGlobalConfigurationTest {
         tuple("ruleWithParams", true, expectedParams));
 
   }
+
+  @Test
+  public void should_reuse_rules_config_snapshot_until_changed() {
+    var snapshot = SonarLintGlobalConfiguration.getRulesConfig();
+    assertThat(SonarLintGlobalConfiguration.getRulesConfig()).isSameAs(snapshot);
+
+    var ruleWithParams = new RuleConfig("php:S456", true);
+    ruleWithParams.getParams().put("param1", "value1");
+    SonarLintGlobalConfiguration.saveRulesConfig(List.of(new RuleConfig("squid:S123", false), ruleWithParams));
+
+    var updated = SonarLintGlobalConfiguration.getRulesConfig();
+    assertThat(updated).isNotSameAs(snapshot);
+    assertThat(updated.getExcludedRules()).containsOnly(new RuleKey("squid", "S123"));
+    assertThat(updated.getIncludedRuleKeys()).containsOnly("php:S456");
+    assertThat(updated.getRuleParameters()).containsOnlyKeys(new RuleKey("php", "S456"));
+
+    SonarLintGlobalConfiguration.readRulesConfig().forEach(r -> r.setActive(true));
+    assertThat(SonarLintGlobalConfiguration.getRulesConfig().getExcludedRules()).containsOnly(new RuleKey("squid", "S123"));
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.resources;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.core.resources.IProject;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sonarlint.eclipse.core.resource.ISonarLintFile;
+import org.sonarlint.eclipse.tests.common.SonarTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectFilesIndexTest extends SonarTestCase {
+
+  private static IProject project;
+
+  @BeforeClass
+  public static void importProject() throws Exception {
+    project = importEclipseProject("SimpleNonJdtProject");
+  }
+
+  @Test
+  public void should_update_index_from_resource_deltas() throws Exception {
+    var slProject = new DefaultSonarLintProjectAdapter(project);
+    assertThat(slProject.files()).extracting(ISonarLintFile::getProjectRelativePath)
+      .containsOnly("src/main/sample.js", "src/main/Program.cbl", "src/main/ClassOnDefaultPackage.java");
+    assertThat(slProject.files()).isSameAs(slProject.files());
+
+    var folder = project.getFolder("src/added");
+    folder.create(true, true, MONITOR);
+    var addedFile = folder.getFile("added.js");
+    addedFile.create(new ByteArrayInputStream("var a = 1;".getBytes(StandardCharsets.UTF_8)), true, MONITOR);
+    assertThat(slProject.files()).extracting(ISonarLintFile::getProjectRelativePath)
+      .contains("src/added/added.js");
+
+    folder.setDerived(true, MONITOR);
+    assertThat(slProject.files()).extracting(ISonarLintFile::getProjectRelativePath)
+      .doesNotContain("src/added/added.js");
+
+    folder.setDerived(false, MONITOR);
+    assertThat(slProject.files()).extracting(ISonarLintFile::getProjectRelativePath)
+      .contains("src/added/added.js");
+
+    folder.delete(true, MONITOR);
+    assertThat(slProject.files()).extracting(ISonarLintFile::getProjectRelativePath)
+      .containsOnly("src/main/sample.js", "src/main/Program.cbl", "src/main/ClassOnDefaultPackage.java");
+  }
+
+}
@@ -33,6 +33,7 @@ import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfigura
 import org.sonarlint.eclipse.tests.common.SonarTestCase;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class SonarLintProjectConfigurationManagerTest extends SonarTestCase {
 
@@ -69,6 +70,8 @@ public class SonarLintProjectConfigurationManagerTest extends SonarTestCase {
     assertThat(configuration.getProjectBinding()).isEmpty();
     assertThat(errors).isEmpty();
     assertThat(infos).contains("Binding configuration of project '" + PROJECT_WITH_DEPRECATED_SETTINGS + "' is outdated. Please rebind this project.");
+    // Loading should not write preferences
+    assertThat(new ProjectScope(project).getNode(SonarLintCorePlugin.PLUGIN_ID).get("moduleKey", null)).isNotNull();
   }
 
   @Test
@@ -86,4 +89,28 @@ public class SonarLintProjectConfigurationManagerTest extends SonarTestCase {
     assertThat(errors).isEmpty();
 
   }
+
+  @Test
+  public void cached_config_is_reloaded_when_settings_change() throws IOException, CoreException {
+    var project = new DefaultSonarLintProjectAdapter(importEclipseProject("SimpleNonJdtProject"));
+    var configManager = SonarLintCorePlugin.getInstance().getProjectConfigManager();
+    var cached = configManager.loadCached(project);
+    assertThat(configManager.loadCached(project)).isSameAs(cached);
+    assertThat(cached.isAutoEnabled()).isTrue();
+    assertThat(cached.isSnapshot()).isTrue();
+    assertThatThrownBy(() -> cached.setAutoEnabled(false)).isInstanceOf(UnsupportedOperationException.class);
+
+    var configuration = cached.copy();
+    configuration.setAutoEnabled(false);
+    configManager.save(project.getScopeContext(), configuration);
+    try {
+      var reloaded = configManager.loadCached(project);
+      assertThat(reloaded).isNotSameAs(cached);
+      assertThat(reloaded.isAutoEnabled()).isFalse();
+    } finally {
+      configuration.setAutoEnabled(true);
+      configManager.save(project.getScopeContext(), configuration);
+    }
+    assertThat(configManager.loadCached(project).isAutoEnabled()).isTrue();
+  }
 }
@@ -0,0 +1,63 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CharSequenceInputStreamTest {
+
+  @Test
+  public void should_encode_empty_content() throws IOException {
+    try (var stream = new CharSequenceInputStream("", StandardCharsets.UTF_8)) {
+      assertThat(stream.read()).isEqualTo(-1);
+    }
+  }
+
+  @Test
+  public void should_encode_multibyte_characters() throws IOException {
+    var content = "Hello w\u00F6rld \uD83D\uDE00";
+    try (var stream = new CharSequenceInputStream(content, StandardCharsets.UTF_8)) {
+      assertThat(stream.readAllBytes()).isEqualTo(content.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void should_encode_content_larger_than_buffer() throws IOException {
+    var content = new StringBuilder();
+    for (var i = 0; i < 10_000; i++) {
+      content.append("line ").append(i).append(" \u00E9\n");
+    }
+    try (var stream = new CharSequenceInputStream(content, StandardCharsets.UTF_8)) {
+      assertThat(stream.readAllBytes()).isEqualTo(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void should_replace_unmappable_characters() throws IOException {
+    try (var stream = new CharSequenceInputStream("a\u00E9\u20AC", StandardCharsets.ISO_8859_1)) {
+      assertThat(new String(stream.readAllBytes(), StandardCharsets.ISO_8859_1)).isEqualTo("a\u00E9?");
+    }
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.ui.internal.console;
+
+import org.junit.Test;
+import org.sonarlint.eclipse.ui.internal.console.SonarLintConsoleLogger.Level;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SonarLintConsoleLoggerTest {
+
+  private static final String NODE_ERROR = "org.sonarsource.nodejs.NodeCommandException: Error when running: 'node -v'";
+
+  @Test
+  public void should_keep_missing_node_error_of_analyzers_when_analyzer_output_is_off() {
+    var line = SonarLintConsoleLogger.toLine(Level.ERROR, NODE_ERROR, true, false);
+
+    assertThat(line).isNotNull();
+    assertThat(line.msg).isEqualTo(NODE_ERROR);
+    assertThat(line.fromAnalyzer).isFalse();
+    assertThat(line.missingNode).isTrue();
+  }
+
+  @Test
+  public void should_drop_other_analyzer_lines_when_analyzer_output_is_off() {
+    assertThat(SonarLintConsoleLogger.toLine(Level.ERROR, "Some analyzer error", true, false)).isNull();
+    assertThat(SonarLintConsoleLogger.toLine(Level.INFO, "Some analyzer info", true, false)).isNull();
+
+    var line = SonarLintConsoleLogger.toLine(Level.INFO, "Some analyzer info", true, true);
+    assertThat(line).isNotNull();
+    assertThat(line.fromAnalyzer).isTrue();
+    assertThat(line.missingNode).isFalse();
+  }
+
+}
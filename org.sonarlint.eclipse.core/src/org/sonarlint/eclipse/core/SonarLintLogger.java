@@ -21,13 +21,14 @@ package org.sonarlint.eclipse.core;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 import org.sonarlint.eclipse.core.internal.LogListener;
 
 public class SonarLintLogger {
   private static final SonarLintLogger instance = new SonarLintLogger();
-  private final List<LogListener> logListeners = new ArrayList<>();
+  private final List<LogListener> logListeners = new CopyOnWriteArrayList<>();
 
   private SonarLintLogger() {
     // singleton
@@ -58,11 +59,13 @@ public class SonarLintLogger {
   }
 
   public void error(String msg, Throwable t) {
+    if (logListeners.isEmpty()) {
+      return;
+    }
+    var stack = stackTrace(t);
     for (var listener : logListeners) {
       listener.error(msg, false);
-      var stack = new StringWriter();
-      t.printStackTrace(new PrintWriter(stack));
-      listener.error(stack.toString(), false);
+      listener.error(stack, false);
     }
   }
 
@@ -84,6 +87,24 @@ public class SonarLintLogger {
     }
   }
 
+  /**
+   * The message is only built if some listener accepts debug logs
+   */
+  public void debug(Supplier<String> msg) {
+    if (isDebugEnabled()) {
+      debug(msg.get());
+    }
+  }
+
+  public boolean isDebugEnabled() {
+    for (LogListener listener : logListeners) {
+      if (listener.isDebugEnabled()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   public void analyzerDebug(String msg) {
     for (LogListener listener : logListeners) {
       listener.debug(msg, true);
@@ -91,12 +112,20 @@ public class SonarLintLogger {
   }
 
   public void debug(String msg, Throwable t) {
+    if (logListeners.isEmpty()) {
+      return;
+    }
+    var stack = stackTrace(t);
     for (var listener : logListeners) {
       listener.debug(msg, false);
-      var stack = new StringWriter();
-      t.printStackTrace(new PrintWriter(stack));
-      listener.debug(stack.toString(), false);
+      listener.debug(stack, false);
     }
   }
 
+  private static String stackTrace(Throwable t) {
+    var stack = new StringWriter();
+    t.printStackTrace(new PrintWriter(stack));
+    return stack.toString();
+  }
+
 }
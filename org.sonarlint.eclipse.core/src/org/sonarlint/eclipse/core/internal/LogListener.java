@@ -27,4 +27,11 @@ public interface LogListener {
 
   void debug(String msg, boolean fromAnalyzer);
 
+  /**
+   * @return false if debug logs are discarded anyway, so that they don't have to be built
+   */
+  default boolean isDebugEnabled() {
+    return true;
+  }
+
 }
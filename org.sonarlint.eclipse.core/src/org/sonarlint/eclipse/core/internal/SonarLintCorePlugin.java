@@ -22,6 +22,7 @@ package org.sonarlint.eclipse.core.internal;
 import java.util.List;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
+import org.eclipse.core.net.proxy.IProxyChangeListener;
 import org.eclipse.core.net.proxy.IProxyService;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -35,12 +36,16 @@ import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.backend.SonarLintBackendService;
 import org.sonarlint.eclipse.core.internal.engine.StandaloneEngineFacade;
 import org.sonarlint.eclipse.core.internal.engine.connected.ConnectedEngineFacadeManager;
+import org.sonarlint.eclipse.core.internal.engine.connected.IConnectedEngineFacade;
 import org.sonarlint.eclipse.core.internal.event.AnalysisListenerManager;
 import org.sonarlint.eclipse.core.internal.extension.AbstractSonarLintExtensionTracker;
 import org.sonarlint.eclipse.core.internal.extension.SonarLintExtensionTracker;
 import org.sonarlint.eclipse.core.internal.http.UserAgentInterceptor;
+import org.sonarlint.eclipse.core.internal.jobs.IdleEnginesEvictionJob;
+import org.sonarlint.eclipse.core.internal.markers.MarkerFlowsAndQuickFixesStore;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfiguration;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfigurationManager;
+import org.sonarlint.eclipse.core.internal.resources.ProjectFilesIndex;
 import org.sonarlint.eclipse.core.internal.telemetry.SonarLintTelemetry;
 import org.sonarlint.eclipse.core.internal.tracking.IssueStore;
 import org.sonarlint.eclipse.core.internal.tracking.IssueTracker;
@@ -77,6 +82,8 @@ public class SonarLintCorePlugin extends Plugin {
 
   private final AnalysisListenerManager analysisListenerManager = new AnalysisListenerManager();
   private final SonarLintTelemetry telemetry = new SonarLintTelemetry();
+  private final IdleEnginesEvictionJob idleEnginesEvictionJob = new IdleEnginesEvictionJob();
+  private final IProxyChangeListener proxyChangeListener = event -> getServersManager().getServers().forEach(IConnectedEngineFacade::resetHttpClient);
   private ConnectedEngineFacadeManager serversManager = null;
 
   private NodeJsManager nodeJsManager;
@@ -121,6 +128,9 @@ public class SonarLintCorePlugin extends Plugin {
 
     VcsService.installBranchChangeListener();
 
+    ProjectFilesIndex.get().install();
+    MarkerFlowsAndQuickFixesStore.get().install();
+
     startupAsync();
   }
 
@@ -138,9 +148,25 @@ public class SonarLintCorePlugin extends Plugin {
     @Override
     public IStatus run(IProgressMonitor monitor) {
       startTelemetry();
+      idleEnginesEvictionJob.schedule();
+      var proxyService = getProxyService();
+      if (proxyService != null) {
+        proxyService.addProxyChangeListener(proxyChangeListener);
+      }
+      loadProjectLists();
       return Status.OK_STATUS;
     }
 
+    /**
+     * Build the project search indexes from the lists saved by the previous session, so that the binding wizard doesn't have to
+     * wait for the download
+     */
+    private void loadProjectLists() {
+      for (var server : getServersManager().getServers()) {
+        server.loadProjectList();
+      }
+    }
+
     private void startTelemetry() {
       if (SonarLintTelemetry.shouldBeActivated()) {
         telemetry.init();
@@ -158,9 +184,16 @@ public class SonarLintCorePlugin extends Plugin {
       sonarlint.stop();
     }
     SonarLintBackendService.get().stop();
+    var proxyService = getProxyService();
+    if (proxyService != null) {
+      proxyService.removeProxyChangeListener(proxyChangeListener);
+    }
     proxyTracker.close();
 
     issueTrackerRegistry.shutdown();
+    ProjectFilesIndex.get().uninstall();
+    MarkerFlowsAndQuickFixesStore.get().uninstall();
+    idleEnginesEvictionJob.cancel();
     if (serversManager != null) {
       serversManager.stop();
     }
@@ -197,6 +230,10 @@ public class SonarLintCorePlugin extends Plugin {
     return getInstance().analysisListenerManager;
   }
 
+  public static IdleEnginesEvictionJob getIdleEnginesEvictionJob() {
+    return getInstance().idleEnginesEvictionJob;
+  }
+
   public static SonarLintTelemetry getTelemetry() {
     return getInstance().telemetry;
   }
@@ -217,8 +254,19 @@ public class SonarLintCorePlugin extends Plugin {
     return getInstance().serversManager;
   }
 
+  /**
+   * @return a modifiable copy of the project configuration, that can be saved with {@link #saveConfig(ISonarLintProject, SonarLintProjectConfiguration)}
+   */
   public static SonarLintProjectConfiguration loadConfig(ISonarLintProject project) {
-    return getInstance().getProjectConfigManager().load(project.getScopeContext(), project.getName());
+    return loadCachedConfig(project).copy();
+  }
+
+  /**
+   * Immutable snapshot of the project configuration, kept in memory until the project preferences change. Cheap enough to be
+   * called from hot paths, and to be kept for a whole analysis.
+   */
+  public static SonarLintProjectConfiguration loadCachedConfig(ISonarLintProject project) {
+    return getInstance().getProjectConfigManager().loadCached(project);
   }
 
   public static void saveConfig(ISonarLintProject project, SonarLintProjectConfiguration config) {
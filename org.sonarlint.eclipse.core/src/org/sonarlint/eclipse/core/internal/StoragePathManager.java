@@ -21,6 +21,7 @@ package org.sonarlint.eclipse.core.internal;
 
 import java.nio.file.Path;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.sonarlint.eclipse.core.internal.utils.StringUtils;
 import org.sonarlint.eclipse.core.resource.ISonarLintProject;
 
 /**
@@ -46,6 +47,21 @@ public class StoragePathManager {
     return getSonarLintUserHome().resolve("work").resolve(serverId);
   }
 
+  /** Get the file where the list of projects of a connection is kept between sessions */
+  public static Path getRemoteProjectsFile(String serverId) {
+    return getSonarLintUserHome().resolve("projects").resolve(StringUtils.urlEncode(serverId) + ".json");
+  }
+
+  /** Get the file where branches elected for Git commits are kept between sessions */
+  public static Path getElectedBranchesFile() {
+    return getSonarLintUserHome().resolve("vcs").resolve("elected-branches.json");
+  }
+
+  /** Get the directory where HTTP responses of a connection are cached */
+  public static Path getHttpCacheDir(String serverId) {
+    return getSonarLintUserHome().resolve("http-cache").resolve(StringUtils.urlEncode(serverId));
+  }
+
   /** Get the storage root directory */
   public static Path getStorageDir() {
     return getSonarLintUserHome().resolve("storage");
@@ -96,7 +96,7 @@ public abstract class SonarLintEclipseHeadlessClient implements SonarLintClient
     if (connectionOpt.isEmpty()) {
       return null;
     }
-    return ((ConnectedEngineFacade) connectionOpt.get()).buildClientWithProxyAndCredentials();
+    return ((ConnectedEngineFacade) connectionOpt.get()).getHttpClient();
   }
 
   @Override
@@ -0,0 +1,184 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.engine;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.internal.TriggerType;
+import org.sonarsource.sonarlint.core.commons.progress.CanceledException;
+
+/**
+ * Queue of the analyses submitted to one engine. The engine processes analyses one at a time, so instead of letting them pile up
+ * in the engine in submission order, they are admitted one by one according to their priority: analyses triggered by the user
+ * editing a file are run before background analyses (manual analysis of a project, binding change, ...). An interactive
+ * analysis submitted while a background analysis is running cancels it, and the background analysis is run again afterwards.
+ * A background analysis is only preempted a few times, so that it is not starved while the user is typing.
+ */
+public class AnalysisQueue {
+
+  private static final long CANCELATION_CHECK_PERIOD_MS = 100;
+  static final int MAX_PREEMPTIONS = 3;
+
+  enum Priority {
+    INTERACTIVE,
+    BACKGROUND;
+
+    static Priority of(TriggerType triggerType) {
+      switch (triggerType) {
+        case EDITOR_CHANGE:
+        case EDITOR_OPEN:
+        case QUICK_FIX:
+          return INTERACTIVE;
+        default:
+          return BACKGROUND;
+      }
+    }
+  }
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition turnChanged = lock.newCondition();
+  private final PriorityQueue<Ticket> waiting = new PriorityQueue<>(Comparator.comparing((Ticket t) -> t.priority).thenComparingLong(t -> t.sequence));
+  @Nullable
+  private Ticket running;
+  private long nextSequence;
+
+  /**
+   * Wait for the turn of the analysis, then run it. The analysis has to use the given monitor, that is canceled when the
+   * analysis is preempted. In this case the analysis is run again (from scratch) once the analyses with higher priority are done.
+   *
+   * @throws CanceledException if the monitor was canceled while waiting or running
+   */
+  public <G> G run(TriggerType triggerType, IProgressMonitor monitor, Function<IProgressMonitor, G> analysis) {
+    var ticket = newTicket(Priority.of(triggerType));
+    while (true) {
+      awaitTurn(ticket, monitor);
+      try {
+        return analysis.apply(ticket.priority == Priority.BACKGROUND ? new PreemptableProgressMonitor(monitor, ticket) : monitor);
+      } catch (CanceledException e) {
+        if (!ticket.preempted || monitor.isCanceled()) {
+          throw e;
+        }
+        SonarLintLogger.get().debug("Analysis preempted by an interactive analysis, it will be run again");
+      } finally {
+        release(ticket);
+      }
+      ticket.preempted = false;
+      ticket.preemptions++;
+    }
+  }
+
+  private Ticket newTicket(Priority priority) {
+    lock.lock();
+    try {
+      return new Ticket(priority, nextSequence++);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void awaitTurn(Ticket ticket, IProgressMonitor monitor) {
+    lock.lock();
+    try {
+      waiting.add(ticket);
+      var current = running;
+      if (ticket.priority == Priority.INTERACTIVE && current != null && current.priority == Priority.BACKGROUND && current.preemptions < MAX_PREEMPTIONS) {
+        current.preempted = true;
+      }
+      while (running != null || waiting.peek() != ticket) {
+        if (monitor.isCanceled()) {
+          waiting.remove(ticket);
+          turnChanged.signalAll();
+          throw new CanceledException();
+        }
+        turnChanged.await(CANCELATION_CHECK_PERIOD_MS, TimeUnit.MILLISECONDS);
+      }
+      waiting.remove();
+      running = ticket;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      waiting.remove(ticket);
+      turnChanged.signalAll();
+      throw new CanceledException();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of analyses waiting for their turn
+   */
+  int waitingCount() {
+    lock.lock();
+    try {
+      return waiting.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release(Ticket ticket) {
+    lock.lock();
+    try {
+      if (running == ticket) {
+        running = null;
+      }
+      turnChanged.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static class Ticket {
+    private final Priority priority;
+    // Keep the submission order among analyses of the same priority, including when an analysis is run again after preemption
+    private final long sequence;
+    private volatile boolean preempted;
+    // Only incremented by the thread running the analysis
+    private volatile int preemptions;
+
+    private Ticket(Priority priority, long sequence) {
+      this.priority = priority;
+      this.sequence = sequence;
+    }
+  }
+
+  private static class PreemptableProgressMonitor extends ProgressMonitorWrapper {
+    private final Ticket ticket;
+
+    private PreemptableProgressMonitor(IProgressMonitor monitor, Ticket ticket) {
+      super(monitor);
+      this.ticket = ticket;
+    }
+
+    @Override
+    public boolean isCanceled() {
+      return ticket.preempted || super.isCanceled();
+    }
+  }
+
+}
@@ -47,7 +47,8 @@ import static java.util.Collections.emptySet;
 public class StandaloneEngineFacade {
 
   @Nullable
-  private StandaloneSonarLintEngine wrappedEngine;
+  private volatile StandaloneSonarLintEngine wrappedEngine;
+  private final AnalysisQueue analysisQueue = new AnalysisQueue();
 
   @Nullable
   private synchronized StandaloneSonarLintEngine getOrCreateEngine() {
@@ -72,10 +73,26 @@ public class StandaloneEngineFacade {
     return wrappedEngine;
   }
 
+  /**
+   * Start the engine ahead of the first analysis, so that it doesn't pay the plugin loading cost.
+   * @return true if the engine is started
+   */
+  public boolean warmUp() {
+    return getOrCreateEngine() != null;
+  }
+
+  public AnalysisQueue getAnalysisQueue() {
+    return analysisQueue;
+  }
+
   private <G> Optional<G> withEngine(Function<StandaloneSonarLintEngine, G> function) {
-    getOrCreateEngine();
-    if (wrappedEngine != null) {
-      return Optional.ofNullable(function.apply(wrappedEngine));
+    // Only lock when the engine has to be started
+    var engine = wrappedEngine;
+    if (engine == null) {
+      engine = getOrCreateEngine();
+    }
+    if (engine != null) {
+      return Optional.ofNullable(function.apply(engine));
     }
     return Optional.empty();
   }
@@ -19,23 +19,28 @@
  */
 package org.sonarlint.eclipse.core.internal.engine.connected;
 
+import java.io.IOException;
 import java.net.UnknownHostException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import okhttp3.Cache;
 import okhttp3.Credentials;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -45,8 +50,11 @@ import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.StoragePathManager;
 import org.sonarlint.eclipse.core.internal.backend.PluginPathHelper;
+import org.sonarlint.eclipse.core.internal.engine.AnalysisQueue;
 import org.sonarlint.eclipse.core.internal.engine.AnalysisRequirementNotifications;
 import org.sonarlint.eclipse.core.internal.engine.SkippedPluginsNotifier;
+import org.sonarlint.eclipse.core.internal.http.CacheableEndpointsInterceptor;
+import org.sonarlint.eclipse.core.internal.http.HttpMetricsInterceptor;
 import org.sonarlint.eclipse.core.internal.http.PreemptiveAuthenticatorInterceptor;
 import org.sonarlint.eclipse.core.internal.http.SonarLintHttpClientOkHttpImpl;
 import org.sonarlint.eclipse.core.internal.jobs.SonarLintAnalyzerLogOutput;
@@ -75,7 +83,6 @@ import org.sonarsource.sonarlint.core.commons.progress.ProgressMonitor;
 import org.sonarsource.sonarlint.core.serverapi.EndpointParams;
 import org.sonarsource.sonarlint.core.serverapi.ServerApi;
 import org.sonarsource.sonarlint.core.serverapi.ServerApiHelper;
-import org.sonarsource.sonarlint.core.serverapi.component.ServerProject;
 import org.sonarsource.sonarlint.core.serverapi.hotspot.GetSecurityHotspotRequestParams;
 import org.sonarsource.sonarlint.core.serverapi.hotspot.ServerHotspotDetails;
 import org.sonarsource.sonarlint.core.serverapi.organization.ServerOrganization;
@@ -90,6 +97,7 @@ import static java.util.stream.Collectors.toList;
 public class ConnectedEngineFacade implements IConnectedEngineFacade {
 
   public static final String OLD_SONARCLOUD_URL = "https://sonarqube.com";
+  private static final long HTTP_CACHE_MAX_SIZE = 50L * 1024 * 1024;
 
   private final String id;
   private String host;
@@ -97,11 +105,23 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
   private String organization;
   private boolean hasAuth;
   @Nullable
-  private ConnectedSonarLintEngine wrappedEngine;
+  private volatile ConnectedSonarLintEngine wrappedEngine;
+  private final AnalysisQueue analysisQueue = new AnalysisQueue();
+  private final ServerFreshnessProbe freshnessProbe = new ServerFreshnessProbe();
   private final List<IConnectedEngineFacadeListener> facadeListeners = new ArrayList<>();
   private boolean notificationsDisabled;
-  // Cache the project list to avoid dead lock
-  private final Map<String, ServerProject> allProjectsByKey = new ConcurrentHashMap<>();
+  // Cache the project list to avoid dead lock, and persist it to be able to propose projects before it is downloaded again
+  private final RemoteProjectsCache remoteProjects;
+  // Long-lived HTTP client, to reuse connections and cached responses. Only rebuilt when credentials or proxy settings change
+  private final Object httpClientLock = new Object();
+  @Nullable
+  private SonarLintHttpClientOkHttpImpl httpClient;
+  @Nullable
+  private Cache httpCache;
+  private final HttpMetricsInterceptor httpMetrics = new HttpMetricsInterceptor();
+  // Number of ongoing usages of the engine, and time of last usage, to be able to stop the engine when it is idle
+  private final AtomicInteger engineUsages = new AtomicInteger();
+  private volatile long engineLastUsed;
 
   public static String getSonarCloudUrl() {
     // For testing we need to allow changing default URL
@@ -110,6 +130,7 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
 
   ConnectedEngineFacade(String id) {
     this.id = id;
+    this.remoteProjects = new RemoteProjectsCache(id, StoragePathManager.getRemoteProjectsFile(id));
   }
 
   @Nullable
@@ -135,6 +156,7 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
       var globalConfig = builder.build();
       try {
         this.wrappedEngine = new ConnectedSonarLintEngineImpl(globalConfig);
+        engineLastUsed = System.currentTimeMillis();
         SkippedPluginsNotifier.notifyForSkippedPlugins(wrappedEngine.getPluginDetails(), id);
         subscribeForEventsForBoundProjects();
       } catch (Throwable e) {
@@ -145,27 +167,86 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
     return wrappedEngine;
   }
 
+  @Override
+  public boolean warmUp() {
+    return getOrCreateEngine() != null;
+  }
+
+  /**
+   * Only lock when the engine has to be started, so that concurrent usages of a started engine don't wait for each other
+   */
+  @Nullable
+  private ConnectedSonarLintEngine acquireEngine() {
+    engineUsages.incrementAndGet();
+    engineLastUsed = System.currentTimeMillis();
+    var engine = wrappedEngine;
+    if (engine == null) {
+      engine = getOrCreateEngine();
+    }
+    if (engine == null) {
+      releaseEngine();
+    }
+    return engine;
+  }
+
+  private void releaseEngine() {
+    engineLastUsed = System.currentTimeMillis();
+    engineUsages.decrementAndGet();
+  }
+
+  public AnalysisQueue getAnalysisQueue() {
+    return analysisQueue;
+  }
+
   private <G> Optional<G> withEngine(Function<ConnectedSonarLintEngine, G> function) {
-    getOrCreateEngine();
-    if (wrappedEngine != null) {
-      return Optional.ofNullable(function.apply(wrappedEngine));
+    var engine = acquireEngine();
+    if (engine == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.ofNullable(function.apply(engine));
+    } finally {
+      releaseEngine();
     }
-    return Optional.empty();
   }
 
   private void doWithEngine(Consumer<ConnectedSonarLintEngine> consumer) {
-    getOrCreateEngine();
-    if (wrappedEngine != null) {
-      consumer.accept(wrappedEngine);
+    withEngine(engine -> {
+      consumer.accept(engine);
+      return null;
+    });
+  }
+
+  @Override
+  public synchronized boolean stopIfIdle(long idleTimeoutMillis) {
+    var engine = wrappedEngine;
+    if (engine == null || engineUsages.get() > 0 || System.currentTimeMillis() - engineLastUsed < idleTimeoutMillis) {
+      return false;
+    }
+    if (!getBoundProjects().isEmpty()) {
+      // Keep the engine of open bound projects, it holds their subscription to server events
+      return false;
     }
+    wrappedEngine = null;
+    if (engineUsages.get() > 0) {
+      // Acquired concurrently, before it could see that the engine is being stopped
+      wrappedEngine = engine;
+      return false;
+    }
+    SonarLintLogger.get().info("Stopping idle SonarLint engine for connection '" + id + "'");
+    engine.stop(false);
+    return true;
   }
 
   private void reloadProjects(ConnectedSonarLintEngine engine, IProgressMonitor monitor) {
-    this.allProjectsByKey.clear();
-    this.allProjectsByKey.putAll(engine.downloadAllProjects(createEndpointParams(), buildClientWithProxyAndCredentials(),
-      new WrappedProgressMonitor(monitor, "Download project list from server '" + getId() + "'")));
-    // Some project names might have been changed
-    notifyAllListenersStateChanged();
+    var projectsByKey = engine.downloadAllProjects(createEndpointParams(), getHttpClient(),
+      new WrappedProgressMonitor(monitor, "Download project list from server '" + getId() + "'"));
+    var namesByKey = new LinkedHashMap<String, String>();
+    projectsByKey.values().forEach(p -> namesByKey.put(p.getKey(), p.getName()));
+    if (remoteProjects.update(namesByKey)) {
+      // Some project names might have been changed
+      notifyAllListenersStateChanged();
+    }
   }
 
   @Override
@@ -217,6 +298,8 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
     for (var sonarLintProject : getBoundProjects()) {
       unbind(sonarLintProject);
     }
+    remoteProjects.delete();
+    deleteHttpCache();
     SonarLintCorePlugin.getServersManager().removeServer(this);
   }
 
@@ -252,8 +335,18 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
 
   @Override
   public CompletableFuture<ConnectedRuleDetails> getRuleDescription(String ruleKey, @Nullable String projectKey) {
-    return withEngine(engine -> engine.getActiveRuleDetails(createEndpointParams(), buildClientWithProxyAndCredentials(), ruleKey, projectKey))
-      .orElse(CompletableFuture.completedFuture(null));
+    var engine = acquireEngine();
+    if (engine == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+    try {
+      // The engine is in use until the details are received
+      return engine.getActiveRuleDetails(createEndpointParams(), getHttpClient(), ruleKey, projectKey)
+        .whenComplete((details, error) -> releaseEngine());
+    } catch (RuntimeException e) {
+      releaseEngine();
+      throw e;
+    }
   }
 
   public synchronized void stop() {
@@ -307,12 +400,7 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
       .distinct()
       .sorted()
       .map(projectKey -> {
-        var remoteProject = getCachedRemoteProject(projectKey);
-        if (remoteProject.isPresent()) {
-          return new RemoteSonarProject(id, remoteProject.get().getKey(), remoteProject.get().getName());
-        } else {
-          return new RemoteSonarProject(id, projectKey, "<unknown>");
-        }
+        return getCachedRemoteProject(projectKey).orElseGet(() -> new RemoteSonarProject(id, projectKey, "<unknown>"));
       })
       .collect(toList());
   }
@@ -330,7 +418,7 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
   @Override
   public void updateProjectStorage(String projectKey, IProgressMonitor monitor) {
     doWithEngine(engine -> {
-      engine.updateProject(createEndpointParams(), buildClientWithProxyAndCredentials(), projectKey,
+      engine.updateProject(createEndpointParams(), getHttpClient(), projectKey,
         new WrappedProgressMonitor(monitor, "Update configuration from server '" + getId() + "' for project '" + projectKey + "'"));
       getBoundProjects(projectKey).forEach(p -> {
         var projectBinding = engine.calculatePathPrefixes(projectKey, p.files().stream().map(ISonarLintFile::getProjectRelativePath).collect(toList()));
@@ -375,8 +463,35 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
     return serverApi.organization().listUserOrganizations(new ProgressMonitor(new WrappedProgressMonitor(monitor, "Fetch organizations")));
   }
 
-  public HttpClient buildClientWithProxyAndCredentials() {
-    var withProxy = SonarLintUtils.withProxy(getHost(), SonarLintCorePlugin.getOkHttpClient());
+  public HttpClient getHttpClient() {
+    synchronized (httpClientLock) {
+      if (httpClient == null) {
+        httpClient = new SonarLintHttpClientOkHttpImpl(buildOkHttpClient());
+      }
+      return httpClient;
+    }
+  }
+
+  @Override
+  public void resetHttpClient() {
+    synchronized (httpClientLock) {
+      httpClient = null;
+    }
+  }
+
+  public HttpMetricsInterceptor getHttpMetrics() {
+    return httpMetrics;
+  }
+
+  private OkHttpClient buildOkHttpClient() {
+    var withProxy = SonarLintUtils.withProxy(getHost(), SonarLintCorePlugin.getOkHttpClient())
+      .addInterceptor(httpMetrics)
+      .addNetworkInterceptor(new CacheableEndpointsInterceptor())
+      .cache(getOrCreateHttpCache());
+    if (Boolean.getBoolean("sonarlint.internal.http.enableHttp2")) {
+      // Opt-in, the shared client is pinned to HTTP/1.1. Negotiated with ALPN, falls back to HTTP/1.1 when the server doesn't support it
+      withProxy.protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1));
+    }
     if (hasAuth()) {
       @Nullable
       String username;
@@ -390,7 +505,38 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
       }
       withProxy.addNetworkInterceptor(new PreemptiveAuthenticatorInterceptor(credentials(username, password)));
     }
-    return new SonarLintHttpClientOkHttpImpl(withProxy.build());
+    return withProxy.build();
+  }
+
+  private Cache getOrCreateHttpCache() {
+    if (httpCache == null) {
+      httpCache = new Cache(StoragePathManager.getHttpCacheDir(getId()).toFile(), HTTP_CACHE_MAX_SIZE);
+    }
+    return httpCache;
+  }
+
+  private void deleteHttpCache() {
+    synchronized (httpClientLock) {
+      httpClient = null;
+      if (httpCache != null) {
+        try {
+          httpCache.delete();
+        } catch (IOException e) {
+          SonarLintLogger.get().debug("Unable to delete HTTP cache of connection '" + id + "'", e);
+        }
+        httpCache = null;
+      }
+    }
+  }
+
+  private void logHttpMetrics() {
+    Cache cache;
+    synchronized (httpClientLock) {
+      cache = httpCache;
+    }
+    SonarLintLogger.get().debug("HTTP requests to connection '" + id + "': " + httpMetrics.getRequestCount()
+      + " (" + httpMetrics.getFailedRequestCount() + " failed), average latency " + httpMetrics.getAverageLatencyMillis() + " ms"
+      + (cache != null ? (", " + cache.hitCount() + " served from cache") : ""));
   }
 
   public static boolean checkNotificationsSupported(String url, @Nullable String organization, String username, String password) {
@@ -420,7 +566,7 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
       return true;
     }
     try {
-      return ServerNotificationsRegistry.isSupported(createEndpointParams(), buildClientWithProxyAndCredentials());
+      return ServerNotificationsRegistry.isSupported(createEndpointParams(), getHttpClient());
     } catch (Exception e) {
       // Maybe the server is temporarily unavailable
       SonarLintLogger.get().debug("Unable to check for if notifications are supported for server '" + getHost() + "'", e);
@@ -433,17 +579,27 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
   }
 
   @Override
-  public TextSearchIndex<ServerProject> computeProjectIndex() {
-    var index = new TextSearchIndex<ServerProject>();
-    for (ServerProject project : allProjectsByKey.values()) {
-      index.index(project, project.getKey() + " " + project.getName());
+  public void loadProjectList() {
+    if (remoteProjects.load()) {
+      // Names of bound projects are now known
+      notifyAllListenersStateChanged();
     }
-    return index;
   }
 
   @Override
-  public Optional<ServerProject> getCachedRemoteProject(String projectKey) {
-    return Optional.ofNullable(allProjectsByKey.get(projectKey));
+  public TextSearchIndex<RemoteSonarProject> computeProjectIndex() {
+    var index = remoteProjects.getIndex();
+    return index != null ? index : new TextSearchIndex<>();
+  }
+
+  @Override
+  public boolean hasProjectList() {
+    return remoteProjects.getIndex() != null;
+  }
+
+  @Override
+  public Optional<RemoteSonarProject> getCachedRemoteProject(String projectKey) {
+    return remoteProjects.get(projectKey);
   }
 
   @Override
@@ -491,14 +647,14 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
 
   public void downloadServerIssues(String projectKey, @Nullable String branchName, IProgressMonitor monitor) {
     doWithEngine(
-      engine -> engine.downloadAllServerIssues(createEndpointParams(), buildClientWithProxyAndCredentials(), projectKey, branchName,
+      engine -> engine.downloadAllServerIssues(createEndpointParams(), getHttpClient(), projectKey, branchName,
         new WrappedProgressMonitor(monitor, "Fetch issues")));
   }
 
   public List<ServerIssue> downloadAllServerIssuesForFile(ProjectBinding projectBinding, String branchName, String filePath, IProgressMonitor monitor) {
     return withEngine(
       engine -> {
-        engine.downloadAllServerIssuesForFile(createEndpointParams(), buildClientWithProxyAndCredentials(), projectBinding, filePath,
+        engine.downloadAllServerIssuesForFile(createEndpointParams(), getHttpClient(), projectBinding, filePath,
           branchName, new WrappedProgressMonitor(monitor, "Fetch issues"));
         return engine.getServerIssues(projectBinding, branchName, filePath);
       })
@@ -507,7 +663,7 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
 
   public void downloadAllServerTaintIssuesForFile(ProjectBinding projectBinding, String branchName, String filePath, IProgressMonitor monitor) {
     doWithEngine(
-      engine -> engine.downloadAllServerTaintIssuesForFile(createEndpointParams(), buildClientWithProxyAndCredentials(), projectBinding, filePath,
+      engine -> engine.downloadAllServerTaintIssuesForFile(createEndpointParams(), getHttpClient(), projectBinding, filePath,
         branchName, new WrappedProgressMonitor(monitor, "Fetch taint issues")));
   }
 
@@ -525,7 +681,7 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
 
   @Override
   public Optional<ServerHotspotDetails> getServerHotspot(String hotspotKey, String projectKey) {
-    var serverApi = new ServerApi(createEndpointParams(), buildClientWithProxyAndCredentials());
+    var serverApi = new ServerApi(createEndpointParams(), getHttpClient());
     return serverApi.hotspot().fetch(new GetSecurityHotspotRequestParams(hotspotKey, projectKey));
   }
 
@@ -538,67 +694,89 @@ public class ConnectedEngineFacade implements IConnectedEngineFacade {
   @Override
   public void manualSync(Set<String> projectKeysToUpdate, IProgressMonitor monitor) {
     doWithEngine(engine -> {
-      sync(projectKeysToUpdate, monitor, engine);
+      withServerPermit(() -> sync(projectKeysToUpdate, monitor, engine));
       updateAllProjectIssuesForCurrentBranch(projectKeysToUpdate, monitor, engine);
     });
   }
 
+  private void withServerPermit(Runnable action) {
+    ParallelSynchronizer.withServerPermit(StringUtils.removeEnd(getHost(), "/"), action);
+  }
+
+  /**
+   * @return distinct pairs of project key and server branch of the bound projects, the branch being null when none is elected
+   * (main branch)
+   */
+  List<Map.Entry<String, @Nullable String>> getActiveProjectBranches(Set<String> projectKeys, Function<ISonarLintProject, @Nullable String> serverBranch) {
+    var projectBranches = new ArrayList<Map.Entry<String, @Nullable String>>();
+    for (var projectKey : projectKeys) {
+      getBoundProjects(projectKey).stream()
+        .map(serverBranch)
+        .distinct()
+        .forEach(branch -> projectBranches.add(new AbstractMap.SimpleImmutableEntry<>(projectKey, branch)));
+    }
+    return projectBranches;
+  }
+
   private void sync(Set<String> projectKeysToUpdate, IProgressMonitor monitor, ConnectedSonarLintEngine engine) {
-    engine.sync(createEndpointParams(), buildClientWithProxyAndCredentials(), projectKeysToUpdate,
+    engine.sync(createEndpointParams(), getHttpClient(), projectKeysToUpdate,
       new WrappedProgressMonitor(monitor, "Synchronize projects storage for connection '" + getId() + "'"));
-    // Force recompute of best server branch
-    VcsService.clearVcsCache();
+    logHttpMetrics();
+    // Best server branch has to be elected again if server branches have changed
+    VcsService.serverBranchesUpdated(projectKeysToUpdate.stream().flatMap(k -> getBoundProjects(k).stream()).collect(toList()));
 
     updateProjectList(monitor);
   }
 
   private void updateAllProjectIssuesForCurrentBranch(Set<String> projectKeys, IProgressMonitor monitor, ConnectedSonarLintEngine engine) {
-    for (var projectKey : projectKeys) {
-      var boundProjects = getBoundProjects(projectKey);
-
-      Set<String> activeBranches = new HashSet<>();
-      for (var project : boundProjects) {
-        activeBranches.add(VcsService.getServerBranch(project));
-      }
-
-      activeBranches.forEach(b -> engine.downloadAllServerIssues(createEndpointParams(),
-        buildClientWithProxyAndCredentials(), projectKey, b,
-        new WrappedProgressMonitor(monitor, "Synchronize issues for connection '" + getId() + "'")));
-
-    }
+    ParallelSynchronizer.runAll(getActiveProjectBranches(projectKeys, VcsService::getServerBranch),
+      pb -> "Unable to synchronize issues of project '" + pb.getKey() + "' on branch '" + pb.getValue() + "' for connection '" + getId() + "'",
+      (pb, pbMonitor) -> withServerPermit(() -> engine.downloadAllServerIssues(createEndpointParams(),
+        getHttpClient(), pb.getKey(), pb.getValue(),
+        new WrappedProgressMonitor(pbMonitor, "Synchronize issues for connection '" + getId() + "'"))),
+      monitor);
   }
 
   @Override
   public void autoSync(Set<String> projectKeys, IProgressMonitor monitor) {
     doWithEngine(engine -> {
-      sync(projectKeys, monitor, engine);
+      withServerPermit(() -> sync(projectKeys, monitor, engine));
       syncProjectIssuesForCurrentBranch(projectKeys, monitor, engine);
     });
   }
 
-  private void syncProjectIssuesForCurrentBranch(Set<String> projectKeys, IProgressMonitor monitor, ConnectedSonarLintEngine engine) {
+  @Override
+  public Set<String> autoSyncIfChanged(Set<String> projectKeys, IProgressMonitor monitor) {
+    var branchesByProjectKey = new HashMap<String, Set<@Nullable String>>();
     for (var projectKey : projectKeys) {
-      var boundProjects = getBoundProjects(projectKey);
-
-      Set<String> activeBranches = new HashSet<>();
-      for (var project : boundProjects) {
-        activeBranches.add(VcsService.getServerBranch(project));
-      }
-
-      activeBranches.forEach(b -> {
-        engine.syncServerIssues(createEndpointParams(), buildClientWithProxyAndCredentials(), projectKey, b,
-          new WrappedProgressMonitor(monitor, "Synchronize issues for connection '" + getId() + "'"));
-        engine.syncServerTaintIssues(createEndpointParams(), buildClientWithProxyAndCredentials(), projectKey, b,
-          new WrappedProgressMonitor(monitor, "Synchronize taint issues for connection '" + getId() + "'"));
-      });
-
+      branchesByProjectKey.put(projectKey, getBoundProjects(projectKey).stream().map(VcsService::getServerBranch).collect(Collectors.toSet()));
     }
+    var changedProjectKeys = freshnessProbe.changedProjects(this, branchesByProjectKey);
+    if (changedProjectKeys.isEmpty()) {
+      SonarLintLogger.get().debug("No change on server for projects bound to connection '" + id + "'");
+    } else {
+      autoSync(changedProjectKeys, monitor);
+    }
+    return changedProjectKeys;
+  }
+
+  private void syncProjectIssuesForCurrentBranch(Set<String> projectKeys, IProgressMonitor monitor, ConnectedSonarLintEngine engine) {
+    ParallelSynchronizer.runAll(getActiveProjectBranches(projectKeys, VcsService::getServerBranch),
+      pb -> "Unable to synchronize issues of project '" + pb.getKey() + "' on branch '" + pb.getValue() + "' for connection '" + getId() + "'",
+      (pb, pbMonitor) -> withServerPermit(() -> {
+        engine.syncServerIssues(createEndpointParams(), getHttpClient(), pb.getKey(), pb.getValue(),
+          new WrappedProgressMonitor(pbMonitor, "Synchronize issues for connection '" + getId() + "'"));
+        engine.syncServerTaintIssues(createEndpointParams(), getHttpClient(), pb.getKey(), pb.getValue(),
+          new WrappedProgressMonitor(pbMonitor, "Synchronize taint issues for connection '" + getId() + "'"));
+      }),
+      monitor);
   }
 
   @Override
   public void subscribeForEventsForBoundProjects() {
-    if (wrappedEngine != null) {
-      wrappedEngine.subscribeForEvents(createEndpointParams(), buildClientWithProxyAndCredentials(), getBoundProjectKeys(), e -> {
+    var engine = wrappedEngine;
+    if (engine != null) {
+      engine.subscribeForEvents(createEndpointParams(), getHttpClient(), getBoundProjectKeys(), e -> {
       }, null);
     }
   }
@@ -337,7 +337,7 @@ public class ConnectedEngineFacadeManager {
   }
 
   public Optional<ResolvedBinding> resolveBinding(ISonarLintProject project) {
-    return resolveBinding(project, SonarLintCorePlugin.loadConfig(project));
+    return resolveBinding(project, SonarLintCorePlugin.loadCachedConfig(project));
   }
 
   public Optional<ResolvedBinding> resolveBinding(ISonarLintProject project, SonarLintProjectConfiguration config) {
@@ -468,10 +468,14 @@ public class ConnectedEngineFacadeManager {
   }
 
   private static ConnectedEngineFacade update(ConnectedEngineFacade facade, String url, @Nullable String organization, boolean hasAuth, boolean notificationsDisabled) {
-    return facade.setHost(url)
+    facade.setHost(url)
       .setOrganization(organization)
       .setHasAuth(hasAuth)
       .setNotificationsDisabled(notificationsDisabled);
+    // Credentials might have changed as well. Only reset once the new settings are applied, a concurrent request would otherwise
+    // build the client again with the previous ones
+    facade.resetHttpClient();
+    return facade;
   }
 
   public void subscribeForEvents(ISonarLintProject project) {
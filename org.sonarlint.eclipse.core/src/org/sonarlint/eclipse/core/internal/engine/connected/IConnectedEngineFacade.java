@@ -35,7 +35,6 @@ import org.sonarsource.sonarlint.core.client.api.connected.ConnectedAnalysisConf
 import org.sonarsource.sonarlint.core.client.api.connected.ConnectedRuleDetails;
 import org.sonarsource.sonarlint.core.client.api.connected.ProjectBranches;
 import org.sonarsource.sonarlint.core.client.api.util.TextSearchIndex;
-import org.sonarsource.sonarlint.core.serverapi.component.ServerProject;
 import org.sonarsource.sonarlint.core.serverapi.hotspot.ServerHotspotDetails;
 import org.sonarsource.sonarlint.core.serverconnection.ProjectBinding;
 
@@ -67,6 +66,21 @@ public interface IConnectedEngineFacade {
 
   void delete();
 
+  /**
+   * Start the engine of this connection ahead of the first analysis, so that it doesn't pay the plugin loading cost.
+   *
+   * @return true if the engine is started
+   */
+  boolean warmUp();
+
+  /**
+   * Stop the engine of this connection if it has not been used for the given duration, and if no open project is bound to it. It
+   * will be started again on next use.
+   *
+   * @return true if the engine was stopped
+   */
+  boolean stopIfIdle(long idleTimeoutMillis);
+
   /**
    * Adds the given state listener to this engine.
    * Once registered, a listener starts receiving notification of
@@ -88,9 +102,27 @@ public interface IConnectedEngineFacade {
    */
   void removeConnectedEngineListener(IConnectedEngineFacadeListener listener);
 
-  TextSearchIndex<ServerProject> computeProjectIndex();
+  /**
+   * Forget the HTTP client used for this connection, so that the next one takes new credentials or proxy settings into account.
+   */
+  void resetHttpClient();
 
-  Optional<ServerProject> getCachedRemoteProject(String projectKey);
+  /**
+   * Read the project list saved by a previous session, and build its search index. Does nothing if already done.
+   */
+  void loadProjectList();
+
+  /**
+   * @return false if the project list was never downloaded, nor saved by a previous session
+   */
+  boolean hasProjectList();
+
+  /**
+   * The index is only rebuilt when the project list changed, so this is cheap to call.
+   */
+  TextSearchIndex<RemoteSonarProject> computeProjectIndex();
+
+  Optional<RemoteSonarProject> getCachedRemoteProject(String projectKey);
 
   @Nullable
   AnalysisResults runAnalysis(ConnectedAnalysisConfiguration config, IssueListener issueListener, IProgressMonitor monitor);
@@ -121,6 +153,13 @@ public interface IConnectedEngineFacade {
 
   void autoSync(Set<String> projectKeys, IProgressMonitor monitor);
 
+  /**
+   * Same as {@link #autoSync(Set, IProgressMonitor)}, but only for the projects that have changed on the server since the last check.
+   *
+   * @return the keys of the projects that were synchronized
+   */
+  Set<String> autoSyncIfChanged(Set<String> projectKeys, IProgressMonitor monitor);
+
   void manualSync(Set<String> projectKeysToUpdate, IProgressMonitor monitor);
 
   ProjectBranches getServerBranches(String projectKey);
@@ -0,0 +1,131 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.engine.connected;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+
+/**
+ * Run independent synchronization tasks (one per connection, one per project branch of a connection, ...) concurrently.
+ * The number of concurrent requests sent to a same server is bounded, whatever the number of connections to this server.
+ */
+public class ParallelSynchronizer {
+
+  private static final int MAX_CONCURRENT_REQUESTS_PER_SERVER = Integer.getInteger("sonarlint.internal.sync.maxConcurrencyPerServer", 4);
+  private static final Map<String, Semaphore> PERMITS_BY_SERVER = new ConcurrentHashMap<>();
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+    var thread = new Thread(r, "sonarlint-sync-" + THREAD_COUNT.incrementAndGet());
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private ParallelSynchronizer() {
+    // Utility class
+  }
+
+  /**
+   * Run the task for each item concurrently, and wait for all of them. The failure of a task is logged and doesn't prevent
+   * other tasks to complete. Progress is reported on the given monitor, from the calling thread, as tasks complete.
+   */
+  public static <T> void runAll(Collection<T> items, Function<T, String> errorMessage, BiConsumer<T, IProgressMonitor> task, IProgressMonitor monitor) {
+    if (items.isEmpty()) {
+      return;
+    }
+    var subMonitor = SubMonitor.convert(monitor, items.size());
+    if (items.size() == 1) {
+      var item = items.iterator().next();
+      runIsolated(item, errorMessage, task, subMonitor.newChild(1));
+      return;
+    }
+    var completion = new ExecutorCompletionService<Void>(EXECUTOR);
+    for (var item : items) {
+      completion.submit(() -> {
+        runIsolated(item, errorMessage, task, new ChildProgressMonitor(monitor));
+        return null;
+      });
+    }
+    for (var i = 0; i < items.size(); i++) {
+      try {
+        completion.take();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      subMonitor.worked(1);
+    }
+  }
+
+  private static <T> void runIsolated(T item, Function<T, String> errorMessage, BiConsumer<T, IProgressMonitor> task, IProgressMonitor monitor) {
+    try {
+      task.accept(item, monitor);
+    } catch (Exception e) {
+      SonarLintLogger.get().error(errorMessage.apply(item), e);
+    }
+  }
+
+  /**
+   * Run the action while holding one of the permits to send requests to the given server
+   */
+  public static void withServerPermit(String serverUrl, Runnable action) {
+    var permits = PERMITS_BY_SERVER.computeIfAbsent(serverUrl, k -> new Semaphore(MAX_CONCURRENT_REQUESTS_PER_SERVER));
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting to synchronize with " + serverUrl, e);
+    }
+    try {
+      action.run();
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Progress monitors are not meant to be used concurrently, so tasks running in other threads only see the cancellation of the
+   * parent monitor. Their progress is reported as a whole when they complete.
+   */
+  private static class ChildProgressMonitor extends NullProgressMonitor {
+    private final IProgressMonitor parent;
+
+    private ChildProgressMonitor(IProgressMonitor parent) {
+      this.parent = parent;
+    }
+
+    @Override
+    public boolean isCanceled() {
+      return super.isCanceled() || parent.isCanceled();
+    }
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.engine.connected;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarsource.sonarlint.core.client.api.util.TextSearchIndex;
+import org.sonarsource.sonarlint.shaded.com.google.gson.Gson;
+import org.sonarsource.sonarlint.shaded.com.google.gson.JsonParseException;
+import org.sonarsource.sonarlint.shaded.com.google.gson.reflect.TypeToken;
+
+/**
+ * List of the projects of a connection, kept on disk between sessions so that the project selection can be offered immediately,
+ * while the list is refreshed in background. The search index is only rebuilt when the list actually changed.
+ */
+class RemoteProjectsCache {
+
+  private final String connectionId;
+  private final Path file;
+  private volatile Map<String, RemoteSonarProject> projectsByKey = Map.of();
+  @Nullable
+  private volatile TextSearchIndex<RemoteSonarProject> index;
+  private boolean loaded;
+
+  RemoteProjectsCache(String connectionId, Path file) {
+    this.connectionId = connectionId;
+    this.file = file;
+  }
+
+  /**
+   * Read the list saved by a previous session, if not already done, and build the search index. Can take some time for big
+   * lists, so should not be called from the UI thread.
+   * @return true if a saved list was loaded
+   */
+  synchronized boolean load() {
+    if (loaded) {
+      return false;
+    }
+    loaded = true;
+    if (!Files.exists(file)) {
+      return false;
+    }
+    try {
+      var json = Files.readString(file, StandardCharsets.UTF_8);
+      Map<String, String> namesByKey = new Gson().fromJson(json, new TypeToken<LinkedHashMap<String, String>>() {
+      }.getType());
+      if (namesByKey != null) {
+        projectsByKey = toProjects(namesByKey);
+        index = buildIndex(projectsByKey);
+        return true;
+      }
+    } catch (IOException | JsonParseException e) {
+      SonarLintLogger.get().debug("Unable to read the saved list of projects of connection '" + connectionId + "'", e);
+    }
+    return false;
+  }
+
+  /**
+   * @return true if the list has changed
+   */
+  synchronized boolean update(Map<String, String> namesByKey) {
+    loaded = true;
+    var newProjectsByKey = toProjects(namesByKey);
+    if (newProjectsByKey.equals(projectsByKey) && index != null) {
+      return false;
+    }
+    projectsByKey = newProjectsByKey;
+    index = buildIndex(newProjectsByKey);
+    save(namesByKey);
+    return true;
+  }
+
+  Optional<RemoteSonarProject> get(String projectKey) {
+    return Optional.ofNullable(projectsByKey.get(projectKey));
+  }
+
+  /**
+   * @return the search index, or null if the list was never downloaded nor loaded from disk
+   */
+  @Nullable
+  TextSearchIndex<RemoteSonarProject> getIndex() {
+    return index;
+  }
+
+  void delete() {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      SonarLintLogger.get().debug("Unable to delete the saved list of projects of connection '" + connectionId + "'", e);
+    }
+  }
+
+  private Map<String, RemoteSonarProject> toProjects(Map<String, String> namesByKey) {
+    var projects = new LinkedHashMap<String, RemoteSonarProject>();
+    namesByKey.forEach((key, name) -> projects.put(key, new RemoteSonarProject(connectionId, key, name)));
+    return Map.copyOf(projects);
+  }
+
+  private static TextSearchIndex<RemoteSonarProject> buildIndex(Map<String, RemoteSonarProject> projectsByKey) {
+    var newIndex = new TextSearchIndex<RemoteSonarProject>();
+    for (var project : projectsByKey.values()) {
+      newIndex.index(project, project.getProjectKey() + " " + project.getName());
+    }
+    return newIndex;
+  }
+
+  private void save(Map<String, String> namesByKey) {
+    try {
+      Files.createDirectories(file.getParent());
+      var tmp = file.resolveSibling(file.getFileName() + ".tmp");
+      Files.writeString(tmp, new Gson().toJson(namesByKey), StandardCharsets.UTF_8);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      SonarLintLogger.get().debug("Unable to save the list of projects of connection '" + connectionId + "'", e);
+    }
+  }
+
+}
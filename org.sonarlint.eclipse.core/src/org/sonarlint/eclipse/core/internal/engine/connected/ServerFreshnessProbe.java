@@ -0,0 +1,156 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.engine.connected;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.internal.utils.StringUtils;
+import org.sonarsource.sonarlint.core.commons.http.HttpClient;
+import org.sonarsource.sonarlint.shaded.com.google.gson.Gson;
+
+/**
+ * Detect, with cheap requests, which bound projects have changed on the server since the last check, to only synchronize those.
+ * A project branch is considered changed when its last analysis or its quality profiles changed. Other changes (settings, issue
+ * resolutions, ...) are not visible this way, so all projects are still considered changed once a day.
+ */
+class ServerFreshnessProbe {
+
+  private static final long FULL_SYNC_PERIOD_MS = TimeUnit.HOURS.toMillis(24);
+  private static final Gson GSON = new Gson();
+
+  private final Map<String, String> fingerprintsByProjectBranch = new HashMap<>();
+  private long lastFullSync;
+
+  /**
+   * @param branchesByProjectKey the server branches of each project, null for the main branch
+   * @return the keys of the projects that have changed on at least one of their branches, or all project keys if a full
+   * synchronization is due
+   */
+  Set<String> changedProjects(ConnectedEngineFacade connection, Map<String, Set<@Nullable String>> branchesByProjectKey) {
+    // Probe without holding the lock, requests can be slow
+    var httpClient = connection.getHttpClient();
+    var fingerprints = new LinkedHashMap<String, Map<String, @Nullable String>>();
+    branchesByProjectKey.forEach((projectKey, branches) -> {
+      var fingerprintsByBranch = new HashMap<String, @Nullable String>();
+      // Quality profiles are shared by all branches of a project
+      var qualityProfiles = qualityProfilesFingerprint(connection, httpClient, projectKey);
+      for (var branch : branches) {
+        var lastAnalysis = qualityProfiles != null ? lastAnalysisFingerprint(connection, httpClient, projectKey, branch) : null;
+        fingerprintsByBranch.put(projectKey + "\n" + branch, lastAnalysis != null ? (lastAnalysis + "\n" + qualityProfiles) : null);
+      }
+      fingerprints.put(projectKey, fingerprintsByBranch);
+    });
+    synchronized (this) {
+      var changed = new LinkedHashSet<String>();
+      // Always record the fingerprint of all branches
+      fingerprints.forEach((projectKey, fingerprintsByBranch) -> fingerprintsByBranch.forEach((key, fingerprint) -> {
+        var previous = fingerprint != null ? fingerprintsByProjectBranch.put(key, fingerprint) : fingerprintsByProjectBranch.remove(key);
+        if (fingerprint == null || !Objects.equals(previous, fingerprint)) {
+          changed.add(projectKey);
+        }
+      }));
+      if (System.currentTimeMillis() - lastFullSync >= FULL_SYNC_PERIOD_MS) {
+        lastFullSync = System.currentTimeMillis();
+        return new LinkedHashSet<>(branchesByProjectKey.keySet());
+      }
+      return changed;
+    }
+  }
+
+  @Nullable
+  private static String lastAnalysisFingerprint(ConnectedEngineFacade connection, HttpClient httpClient, String projectKey, @Nullable String branch) {
+    var response = get(httpClient, StringUtils.removeEnd(connection.getHost(), "/") + "/api/project_analyses/search?ps=1&project=" + StringUtils.urlEncode(projectKey)
+      + (branch != null ? ("&branch=" + StringUtils.urlEncode(branch)) : ""), AnalysesResponse.class);
+    var analyses = response != null ? response.analyses : null;
+    if (analyses == null) {
+      return null;
+    }
+    return analyses.stream()
+      .map(a -> a.key + "@" + a.date)
+      .findFirst()
+      .orElse("");
+  }
+
+  /**
+   * Only based on the profiles and on when their rules changed, the last usage of a profile changes each time any project using it
+   * is analyzed
+   */
+  @Nullable
+  private static String qualityProfilesFingerprint(ConnectedEngineFacade connection, HttpClient httpClient, String projectKey) {
+    var organization = connection.getOrganization();
+    var response = get(httpClient, StringUtils.removeEnd(connection.getHost(), "/") + "/api/qualityprofiles/search?project=" + StringUtils.urlEncode(projectKey)
+      + (organization != null ? ("&organization=" + StringUtils.urlEncode(organization)) : ""), ProfilesResponse.class);
+    var profiles = response != null ? response.profiles : null;
+    if (profiles == null) {
+      return null;
+    }
+    return profiles.stream()
+      .map(p -> p.key + "@" + p.rulesUpdatedAt)
+      .sorted()
+      .collect(Collectors.joining(","));
+  }
+
+  @Nullable
+  private static <T> T get(HttpClient httpClient, String url, Class<T> responseType) {
+    try (var response = httpClient.get(url)) {
+      if (response.code() >= 200 && response.code() < 300) {
+        return GSON.fromJson(response.bodyAsString(), responseType);
+      }
+      SonarLintLogger.get().debug("Unable to check for server changes, got HTTP " + response.code() + " for " + response.url());
+    } catch (Exception e) {
+      SonarLintLogger.get().debug("Unable to check for server changes: " + e.getMessage(), e);
+    }
+    return null;
+  }
+
+  private static class AnalysesResponse {
+    @Nullable
+    List<Analysis> analyses;
+  }
+
+  private static class Analysis {
+    @Nullable
+    String key;
+    @Nullable
+    String date;
+  }
+
+  private static class ProfilesResponse {
+    @Nullable
+    List<Profile> profiles;
+  }
+
+  private static class Profile {
+    @Nullable
+    String key;
+    @Nullable
+    String rulesUpdatedAt;
+  }
+
+}
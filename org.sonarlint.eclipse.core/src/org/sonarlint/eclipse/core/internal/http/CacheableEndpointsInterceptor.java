@@ -0,0 +1,63 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.http;
+
+import java.io.IOException;
+import java.util.List;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * SonarQube forbids caching of all web service responses. For endpoints returning data that rarely changes (rules, quality
+ * profiles, project lists), let the HTTP cache store the response when it can be revalidated, so that an unchanged response only
+ * costs a "304 Not Modified". Responses are never used without revalidation.
+ */
+public class CacheableEndpointsInterceptor implements Interceptor {
+
+  private static final List<String> CACHEABLE_PATHS = List.of(
+    "/api/rules/search",
+    "/api/rules/show",
+    "/api/qualityprofiles/search",
+    "/api/components/search",
+    "/api/components/search_projects");
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    var request = chain.request();
+    var response = chain.proceed(request);
+    if (!"GET".equals(request.method()) || !response.isSuccessful() || !isCacheable(request.url().encodedPath())) {
+      return response;
+    }
+    if (response.header("ETag") == null && response.header("Last-Modified") == null) {
+      // Nothing to revalidate with
+      return response;
+    }
+    return response.newBuilder()
+      .removeHeader("Pragma")
+      .removeHeader("Expires")
+      .header("Cache-Control", "no-cache")
+      .build();
+  }
+
+  private static boolean isCacheable(String path) {
+    return CACHEABLE_PATHS.stream().anyMatch(path::endsWith);
+  }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.http;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Counts the requests sent through a client, and the time it took to get their responses (not including reading the body).
+ */
+public class HttpMetricsInterceptor implements Interceptor {
+
+  private final LongAdder requestCount = new LongAdder();
+  private final LongAdder failedRequestCount = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    var start = System.nanoTime();
+    try {
+      return chain.proceed(chain.request());
+    } catch (IOException | RuntimeException e) {
+      failedRequestCount.increment();
+      throw e;
+    } finally {
+      requestCount.increment();
+      totalLatencyNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  public long getFailedRequestCount() {
+    return failedRequestCount.sum();
+  }
+
+  public long getAverageLatencyMillis() {
+    var count = requestCount.sum();
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.sum() / count);
+  }
+
+}
@@ -21,6 +21,8 @@ package org.sonarlint.eclipse.core.internal.http;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -30,11 +32,19 @@ import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
-import okio.Buffer;
+import okio.BufferedSink;
+import okio.Utf8;
 import org.sonarsource.sonarlint.core.commons.http.HttpClient;
 import org.sonarsource.sonarlint.core.commons.http.HttpConnectionListener;
 
+/**
+ * Adapts OkHttp to the HTTP client expected by SonarLint Core.
+ * Responses are compressed with gzip when the server supports it: OkHttp negotiates it and decompresses transparently as long as
+ * no {@code Accept-Encoding} header is set explicitly. Bodies are streamed from the network when read with {@link Response#bodyAsStream()}.
+ */
 public class SonarLintHttpClientOkHttpImpl implements HttpClient {
+  private static final int STREAM_BUFFER_SIZE = 8192;
+
   private final OkHttpClient okClient;
 
   public SonarLintHttpClientOkHttpImpl(OkHttpClient okClient) {
@@ -43,7 +53,7 @@ public class SonarLintHttpClientOkHttpImpl implements HttpClient {
 
   @Override
   public Response post(String url, String contentType, String bodyContent) {
-    var body = RequestBody.create(MediaType.get(contentType), bodyContent);
+    var body = createRequestBody(contentType, bodyContent);
     var request = new Request.Builder()
       .url(url)
       .post(body)
@@ -69,7 +79,7 @@ public class SonarLintHttpClientOkHttpImpl implements HttpClient {
 
   @Override
   public Response delete(String url, String contentType, String bodyContent) {
-    var body = RequestBody.create(MediaType.get(contentType), bodyContent);
+    var body = createRequestBody(contentType, bodyContent);
     var request = new Request.Builder()
       .url(url)
       .delete(body)
@@ -77,6 +87,18 @@ public class SonarLintHttpClientOkHttpImpl implements HttpClient {
     return executeRequest(request);
   }
 
+  private static RequestBody createRequestBody(String contentType, String bodyContent) {
+    var mediaType = MediaType.get(contentType);
+    if (mediaType.charset() == null) {
+      // Same as RequestBody.create, servers could otherwise decode the content as ISO-8859-1
+      mediaType = MediaType.get(contentType + "; charset=utf-8");
+    }
+    if (StandardCharsets.UTF_8.equals(mediaType.charset())) {
+      return new Utf8RequestBody(mediaType, bodyContent);
+    }
+    return RequestBody.create(mediaType, bodyContent);
+  }
+
   private Response executeRequest(Request request) {
     try {
       return wrap(okClient.newCall(request).execute());
@@ -164,11 +186,12 @@ public class SonarLintHttpClientOkHttpImpl implements HttpClient {
       public void onResponse(Call call, okhttp3.Response response) {
         if (response.isSuccessful()) {
           connectionListener.onConnected();
-          var source = response.body().source();
-          try (var buffer = new Buffer()) {
-            while (!source.exhausted()) {
-              var count = source.read(buffer, 8192);
-              messageConsumer.accept(buffer.readUtf8(count));
+          // Decode progressively, a multi-byte character can be split between two reads
+          try (var reader = new InputStreamReader(response.body().byteStream(), StandardCharsets.UTF_8)) {
+            var chars = new char[STREAM_BUFFER_SIZE];
+            int count;
+            while ((count = reader.read(chars)) != -1) {
+              messageConsumer.accept(new String(chars, 0, count));
             }
           } catch (IOException e) {
             if (!asyncRequest.call.isCanceled()) {
@@ -183,6 +206,46 @@ public class SonarLintHttpClientOkHttpImpl implements HttpClient {
     return asyncRequest;
   }
 
+  /**
+   * Encodes the content while writing it to the network, instead of materializing it as a byte array first
+   */
+  private static class Utf8RequestBody extends RequestBody {
+    private final MediaType mediaType;
+    private final String content;
+    private final long contentLength;
+
+    private Utf8RequestBody(MediaType mediaType, String content) {
+      this.mediaType = mediaType;
+      this.content = content;
+      this.contentLength = Utf8.size(content);
+    }
+
+    @Override
+    public MediaType contentType() {
+      return mediaType;
+    }
+
+    @Override
+    public long contentLength() {
+      return contentLength;
+    }
+
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+      var length = content.length();
+      var begin = 0;
+      while (begin < length) {
+        var end = Math.min(begin + STREAM_BUFFER_SIZE, length);
+        if (end < length && Character.isHighSurrogate(content.charAt(end - 1))) {
+          // Don't split a surrogate pair
+          end--;
+        }
+        sink.writeUtf8(content, begin, end);
+        begin = end;
+      }
+    }
+  }
+
   private static class OkHttpAsyncRequest implements HttpClient.AsyncRequest {
     private final Call call;
 
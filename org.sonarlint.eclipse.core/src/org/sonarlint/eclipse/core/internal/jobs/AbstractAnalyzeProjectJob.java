@@ -19,7 +19,6 @@
  */
 package org.sonarlint.eclipse.core.internal.jobs;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +30,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -49,6 +49,7 @@ import org.sonarlint.eclipse.core.configurator.ProjectConfigurationRequest;
 import org.sonarlint.eclipse.core.configurator.ProjectConfigurator;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.TriggerType;
+import org.sonarlint.eclipse.core.internal.engine.AnalysisQueue;
 import org.sonarlint.eclipse.core.internal.engine.connected.ConnectedEngineFacade;
 import org.sonarlint.eclipse.core.internal.extension.SonarLintExtensionTracker;
 import org.sonarlint.eclipse.core.internal.jobs.AnalyzeProjectRequest.FileWithDocument;
@@ -69,7 +70,6 @@ import org.sonarsource.sonarlint.core.client.api.common.analysis.Issue;
 import org.sonarsource.sonarlint.core.commons.Language;
 import org.sonarsource.sonarlint.core.commons.TextRange;
 import org.sonarsource.sonarlint.core.commons.progress.CanceledException;
-import org.sonarsource.sonarlint.core.serverconnection.FileUtils;
 
 import static java.text.MessageFormat.format;
 
@@ -109,7 +109,7 @@ public abstract class AbstractAnalyzeProjectJob<CONFIG extends AbstractAnalysisC
     var startTime = System.currentTimeMillis();
     SonarLintLogger.get().debug("Trigger: " + triggerType.name());
 
-    Path analysisWorkDir = null;
+    AnalysisWorkArea.Lease workDirLease = null;
     try {
       var excludedFiles = new ArrayList<ISonarLintFile>();
       var filesToAnalyze = new ArrayList<FileWithDocument>();
@@ -147,8 +147,9 @@ public abstract class AbstractAnalyzeProjectJob<CONFIG extends AbstractAnalysisC
       var mergedExtraProps = new LinkedHashMap<String, String>();
       var usedDeprecatedConfigurators = configureDeprecated(getProject(), filesToAnalyzeMap.keySet(), mergedExtraProps, monitor);
 
-      analysisWorkDir = Files.createTempDirectory(getProject().getWorkingDir(), "sonarlint");
-      var inputFiles = buildInputFiles(analysisWorkDir, filesToAnalyzeMap);
+      workDirLease = AnalysisWorkArea.of(getProject()).acquire();
+      var analysisWorkDir = workDirLease.getWorkDir();
+      var inputFiles = buildInputFiles(workDirLease.getWorkArea(), filesToAnalyzeMap);
       var usedConfigurators = configure(getProject(), inputFiles, mergedExtraProps, analysisWorkDir, monitor);
 
       extraProps.forEach(sonarProperty -> mergedExtraProps.put(sonarProperty.getName(), sonarProperty.getValue()));
@@ -166,12 +167,8 @@ public abstract class AbstractAnalyzeProjectJob<CONFIG extends AbstractAnalysisC
       SonarLintLogger.get().error("Error during execution of SonarLint analysis", e);
       return new Status(IStatus.WARNING, SonarLintCorePlugin.PLUGIN_ID, "Error when executing SonarLint analysis", e);
     } finally {
-      if (analysisWorkDir != null) {
-        try {
-          FileUtils.deleteRecursively(analysisWorkDir);
-        } catch (Exception e) {
-          SonarLintLogger.get().debug("Unable to delete temp directory: " + analysisWorkDir, e);
-        }
+      if (workDirLease != null) {
+        workDirLease.close();
       }
     }
 
@@ -181,7 +178,7 @@ public abstract class AbstractAnalyzeProjectJob<CONFIG extends AbstractAnalysisC
   private static boolean isScmIgnored(ISonarLintFile file) {
     var ignored = file.isScmIgnored();
     if (ignored) {
-      SonarLintLogger.get().debug("File '" + file.getName() + "' skipped from analysis because it is ignored by SCM");
+      SonarLintLogger.get().debug(() -> "File '" + file.getName() + "' skipped from analysis because it is ignored by SCM");
     }
     return ignored;
   }
@@ -217,14 +214,14 @@ public abstract class AbstractAnalyzeProjectJob<CONFIG extends AbstractAnalysisC
     telemetry.addReportedRules(issuesPerResource.values().stream().flatMap(Collection::stream).map(Issue::getRuleKey).collect(Collectors.toSet()));
   }
 
-  private static List<ClientInputFile> buildInputFiles(Path tempDirectory, final Map<ISonarLintFile, IDocument> filesToAnalyze) {
+  private static List<ClientInputFile> buildInputFiles(AnalysisWorkArea workArea, final Map<ISonarLintFile, IDocument> filesToAnalyze) {
     var inputFiles = new ArrayList<ClientInputFile>(filesToAnalyze.size());
 
     for (final var fileWithDoc : filesToAnalyze.entrySet()) {
       var file = fileWithDoc.getKey();
       var language = tryDetectLanguage(file);
       var isTest = TestFileClassifier.get().isTest(file);
-      var inputFile = new EclipseInputFile(isTest, file, tempDirectory, fileWithDoc.getValue(), language);
+      var inputFile = new EclipseInputFile(isTest, file, workArea, fileWithDoc.getValue(), language);
       inputFiles.add(inputFile);
     }
     return inputFiles;
@@ -304,18 +301,20 @@ public abstract class AbstractAnalyzeProjectJob<CONFIG extends AbstractAnalysisC
         return;
       }
       var file = (ISonarLintFile) entry.getKey();
-      var openedDocument = Optional.ofNullable(docPerFile.get(file));
+      var document = Optional.ofNullable(docPerFile.get(file));
       var issueTracker = SonarLintCorePlugin.getOrCreateIssueTracker(getProject());
       var rawIssues = entry.getValue();
       List<Trackable> trackables;
       if (!rawIssues.isEmpty()) {
-        var document = openedDocument.orElseGet(file::getDocument);
-        trackables = rawIssues.stream().map(issue -> transform(issue, file, document)).collect(Collectors.toList());
+        // Load the document of a file not open in an editor only once, and reuse it to create markers
+        document = Optional.of(document.orElseGet(file::getDocument));
+        var loadedDocument = document.get();
+        trackables = rawIssues.stream().map(issue -> transform(issue, file, loadedDocument)).collect(Collectors.toList());
       } else {
         trackables = Collections.emptyList();
       }
       var tracked = trackFileIssues(file, trackables, issueTracker, triggerType, rawIssuesPerResource.size(), monitor);
-      SonarLintMarkerUpdater.createOrUpdateMarkers(file, openedDocument, tracked, triggerType);
+      SonarLintMarkerUpdater.createOrUpdateMarkers(file, document, tracked, triggerType);
       // Now that markerId are set, store issues in cache
       issueTracker.updateCache(file, tracked);
     }
@@ -388,12 +387,20 @@ public abstract class AbstractAnalyzeProjectJob<CONFIG extends AbstractAnalysisC
   }
 
   public AnalysisResults run(final CONFIG analysisConfig, final Map<ISonarLintIssuable, List<Issue>> issuesPerResource, IProgressMonitor monitor) {
-    SonarLintLogger.get().debug("Starting analysis with configuration:\n" + analysisConfig.toString());
-    var issueListener = new SonarLintIssueListener(getProject(), issuesPerResource);
-    var result = runAnalysis(analysisConfig, issueListener, monitor);
-    SonarLintLogger.get().info("Found " + issueListener.getIssueCount() + " issue(s)");
-    return result;
+    SonarLintLogger.get().debug(() -> "Starting analysis with configuration:\n" + analysisConfig.toString());
+    var analyzedResources = Set.copyOf(issuesPerResource.keySet());
+    return getAnalysisQueue().run(triggerType, monitor, analysisMonitor -> {
+      // The analysis may be run again after having been preempted, don't keep issues of the previous attempt
+      issuesPerResource.keySet().retainAll(analyzedResources);
+      issuesPerResource.values().forEach(List::clear);
+      var issueListener = new SonarLintIssueListener(getProject(), issuesPerResource);
+      var result = runAnalysis(analysisConfig, issueListener, analysisMonitor);
+      SonarLintLogger.get().info("Found " + issueListener.getIssueCount() + " issue(s)");
+      return result;
+    });
   }
 
+  protected abstract AnalysisQueue getAnalysisQueue();
+
   protected abstract AnalysisResults runAnalysis(CONFIG analysisConfig, SonarLintIssueListener issueListener, IProgressMonitor monitor);
 }
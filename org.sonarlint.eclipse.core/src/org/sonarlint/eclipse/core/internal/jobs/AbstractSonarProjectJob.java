@@ -31,7 +31,7 @@ public abstract class AbstractSonarProjectJob extends AbstractSonarJob {
   public AbstractSonarProjectJob(String title, ISonarLintProject project) {
     super(title);
     this.project = project;
-    this.config = SonarLintCorePlugin.loadConfig(project);
+    this.config = SonarLintCorePlugin.loadCachedConfig(project);
   }
 
   protected ISonarLintProject getProject() {
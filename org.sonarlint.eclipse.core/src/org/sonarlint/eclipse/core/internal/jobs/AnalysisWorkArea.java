@@ -0,0 +1,252 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.jobs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.filesystem.IFileInfo;
+import org.eclipse.core.filesystem.IFileStore;
+import org.eclipse.core.runtime.CoreException;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.resource.ISonarLintFile;
+import org.sonarlint.eclipse.core.resource.ISonarLintProject;
+import org.sonarsource.sonarlint.core.serverconnection.FileUtils;
+
+/**
+ * Reusable analysis work area of a project, located in the project working directory.
+ * <ul>
+ *   <li>analysis work directories are leased to analysis jobs and given back to a pool when the analysis is done, instead of being
+ *   created and deleted for every analysis. Leftovers of a previous analysis are only removed when the directory is leased again.</li>
+ *   <li>physical copies of files stored on a non local EFS are kept in a cache, and only copied again when the remote file has changed
+ *   (based on its length and modification date). Copies of files that no longer exist in the project are periodically removed.</li>
+ * </ul>
+ */
+public class AnalysisWorkArea {
+
+  private static final String ANALYSIS_DIR = "analysis";
+  private static final String WORK_DIRS = "work";
+  private static final String REMOTE_COPIES_DIR = "remote-copies";
+  // Temporary folders created by older versions with Files.createTempDirectory(projectWorkDir, "sonarlint"), for one time cleanup
+  private static final Pattern LEGACY_TEMP_DIR_PATTERN = Pattern.compile("sonarlint\\d+");
+  private static final String TMP_SUFFIX = ".tmp";
+  private static final long REMOTE_COPIES_PRUNE_PERIOD_MS = TimeUnit.HOURS.toMillis(1);
+
+  private static final Map<Path, AnalysisWorkArea> WORK_AREAS = new ConcurrentHashMap<>();
+
+  private final Path projectWorkDir;
+  private final Path workDirsRoot;
+  private final Path remoteCopiesRoot;
+  private final Predicate<String> sourceExists;
+  private final Deque<Path> idleWorkDirs = new ArrayDeque<>();
+  private int workDirsCount;
+  private boolean legacyTempDirsCleaned;
+  private long lastRemoteCopiesPrune;
+
+  AnalysisWorkArea(Path projectWorkDir) {
+    this(projectWorkDir, relativePath -> true);
+  }
+
+  /**
+   * @param sourceExists tells if a project relative path still exists in the project, to remove the copies of deleted files
+   */
+  AnalysisWorkArea(Path projectWorkDir, Predicate<String> sourceExists) {
+    this.projectWorkDir = projectWorkDir;
+    this.sourceExists = sourceExists;
+    var analysisRoot = projectWorkDir.resolve(ANALYSIS_DIR);
+    this.workDirsRoot = analysisRoot.resolve(WORK_DIRS);
+    this.remoteCopiesRoot = analysisRoot.resolve(REMOTE_COPIES_DIR);
+  }
+
+  public static AnalysisWorkArea of(ISonarLintProject project) {
+    return WORK_AREAS.computeIfAbsent(project.getWorkingDir(), workDir -> new AnalysisWorkArea(workDir, project::exists));
+  }
+
+  /**
+   * Lease a work directory for the duration of one analysis. The directory is guaranteed to be empty and not used by any
+   * other analysis until the lease is closed.
+   */
+  public Lease acquire() throws IOException {
+    Path workDir;
+    var pruneRemoteCopies = false;
+    synchronized (this) {
+      cleanLegacyTempDirsOnce();
+      workDir = idleWorkDirs.poll();
+      if (workDir == null) {
+        workDir = workDirsRoot.resolve(Integer.toString(workDirsCount));
+        workDirsCount++;
+      }
+      var now = System.currentTimeMillis();
+      if (now - lastRemoteCopiesPrune >= REMOTE_COPIES_PRUNE_PERIOD_MS) {
+        lastRemoteCopiesPrune = now;
+        pruneRemoteCopies = true;
+      }
+    }
+    if (pruneRemoteCopies) {
+      pruneRemoteCopies();
+    }
+    prepare(workDir);
+    return new Lease(workDir);
+  }
+
+  private synchronized void release(Path workDir) {
+    idleWorkDirs.push(workDir);
+  }
+
+  private static void prepare(Path workDir) throws IOException {
+    if (Files.isDirectory(workDir)) {
+      // Lazy cleanup of what the previous analysis left behind. Most of the time the directory is already empty.
+      try (var children = Files.list(workDir)) {
+        for (var child : children.collect(Collectors.toList())) {
+          FileUtils.deleteRecursively(child);
+        }
+      }
+    } else {
+      Files.createDirectories(workDir);
+    }
+  }
+
+  private void cleanLegacyTempDirsOnce() {
+    if (legacyTempDirsCleaned) {
+      return;
+    }
+    legacyTempDirsCleaned = true;
+    if (!Files.isDirectory(projectWorkDir)) {
+      return;
+    }
+    try (var children = Files.list(projectWorkDir)) {
+      children
+        .filter(p -> Files.isDirectory(p) && LEGACY_TEMP_DIR_PATTERN.matcher(p.getFileName().toString()).matches())
+        .collect(Collectors.toList())
+        .forEach(FileUtils::deleteRecursively);
+    } catch (Exception e) {
+      SonarLintLogger.get().debug("Unable to clean legacy analysis directories in " + projectWorkDir, e);
+    }
+  }
+
+  private void pruneRemoteCopies() {
+    if (!Files.isDirectory(remoteCopiesRoot)) {
+      return;
+    }
+    try (var copies = Files.walk(remoteCopiesRoot)) {
+      var obsoleteCopies = copies
+        .filter(Files::isRegularFile)
+        .filter(this::isObsolete)
+        .collect(Collectors.toList());
+      for (var copy : obsoleteCopies) {
+        synchronized (this) {
+          Files.deleteIfExists(copy);
+        }
+      }
+    } catch (Exception e) {
+      SonarLintLogger.get().debug("Unable to remove obsolete copies of remote files in " + remoteCopiesRoot, e);
+    }
+  }
+
+  private boolean isObsolete(Path copy) {
+    if (copy.getFileName().toString().endsWith(TMP_SUFFIX)) {
+      // Might be a copy in progress, only remove leftovers of interrupted copies
+      try {
+        return System.currentTimeMillis() - Files.getLastModifiedTime(copy).toMillis() >= REMOTE_COPIES_PRUNE_PERIOD_MS;
+      } catch (IOException e) {
+        return false;
+      }
+    }
+    return !sourceExists.test(remoteCopiesRoot.relativize(copy).toString().replace(File.separatorChar, '/'));
+  }
+
+  /**
+   * Return a physical copy of a file that is stored on a non local EFS. The copy is reused as long as the remote file length and
+   * modification date are unchanged. For analyzers to properly work the copy keeps the project relative path of the original file.
+   */
+  Path getLocalCopy(ISonarLintFile file, IFileStore fileStore) throws IOException, CoreException {
+    var localCopy = remoteCopiesRoot.resolve(file.getProjectRelativePath()).toAbsolutePath();
+    var remoteInfo = fileStore.fetchInfo();
+    synchronized (this) {
+      if (isUpToDate(localCopy, remoteInfo)) {
+        return localCopy;
+      }
+    }
+    // Copy without holding the lock, the transfer can be slow. Unique name, the same file might be copied by concurrent analyses.
+    Files.createDirectories(localCopy.getParent());
+    var tmpCopy = Files.createTempFile(localCopy.getParent(), localCopy.getFileName().toString(), TMP_SUFFIX);
+    try {
+      fileStore.copy(EFS.getStore(tmpCopy.toUri()), EFS.OVERWRITE, null);
+      synchronized (this) {
+        Files.move(tmpCopy, localCopy, StandardCopyOption.REPLACE_EXISTING);
+        if (remoteInfo.getLastModified() != EFS.NONE) {
+          Files.setLastModifiedTime(localCopy, FileTime.fromMillis(remoteInfo.getLastModified()));
+        }
+      }
+    } finally {
+      Files.deleteIfExists(tmpCopy);
+    }
+    return localCopy;
+  }
+
+  private static boolean isUpToDate(Path localCopy, IFileInfo remoteInfo) {
+    if (remoteInfo.getLastModified() == EFS.NONE || !Files.isRegularFile(localCopy)) {
+      return false;
+    }
+    try {
+      return Files.size(localCopy) == remoteInfo.getLength()
+        && Files.getLastModifiedTime(localCopy).toMillis() == remoteInfo.getLastModified();
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Work directory leased to a single analysis. Closing it gives the directory back to the pool.
+   */
+  public class Lease implements AutoCloseable {
+    private final Path workDir;
+
+    private Lease(Path workDir) {
+      this.workDir = workDir;
+    }
+
+    public Path getWorkDir() {
+      return workDir;
+    }
+
+    public AnalysisWorkArea getWorkArea() {
+      return AnalysisWorkArea.this;
+    }
+
+    @Override
+    public void close() {
+      release(workDir);
+    }
+  }
+
+}
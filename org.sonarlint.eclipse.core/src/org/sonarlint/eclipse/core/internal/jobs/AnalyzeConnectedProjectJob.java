@@ -29,6 +29,7 @@ import org.eclipse.jface.text.IDocument;
 import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.TriggerType;
+import org.sonarlint.eclipse.core.internal.engine.AnalysisQueue;
 import org.sonarlint.eclipse.core.internal.engine.connected.ConnectedEngineFacade;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfiguration.EclipseProjectBinding;
 import org.sonarlint.eclipse.core.internal.tracking.IssueTracker;
@@ -66,6 +67,11 @@ public class AnalyzeConnectedProjectJob extends AbstractAnalyzeProjectJob<Connec
       .build();
   }
 
+  @Override
+  protected AnalysisQueue getAnalysisQueue() {
+    return engineFacade.getAnalysisQueue();
+  }
+
   @Override
   protected AnalysisResults runAnalysis(ConnectedAnalysisConfiguration analysisConfig, SonarLintIssueListener issueListener, IProgressMonitor monitor) {
     return engineFacade.runAnalysis(analysisConfig, issueListener, monitor);
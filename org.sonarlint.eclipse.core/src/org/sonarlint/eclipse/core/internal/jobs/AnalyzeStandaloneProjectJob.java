@@ -20,21 +20,16 @@
 package org.sonarlint.eclipse.core.internal.jobs;
 
 import java.nio.file.Path;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
-import org.sonarlint.eclipse.core.internal.preferences.RuleConfig;
+import org.sonarlint.eclipse.core.internal.engine.AnalysisQueue;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintGlobalConfiguration;
 import org.sonarsource.sonarlint.core.analysis.api.AnalysisResults;
 import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
 import org.sonarsource.sonarlint.core.client.api.standalone.StandaloneAnalysisConfiguration;
-import org.sonarsource.sonarlint.core.commons.RuleKey;
-
-import static java.util.stream.Collectors.toList;
 
 public class AnalyzeStandaloneProjectJob extends AbstractAnalyzeProjectJob<StandaloneAnalysisConfiguration> {
 
@@ -45,41 +40,25 @@ public class AnalyzeStandaloneProjectJob extends AbstractAnalyzeProjectJob<Stand
   @Override
   protected StandaloneAnalysisConfiguration prepareAnalysisConfig(Path projectBaseDir, List<ClientInputFile> inputFiles, Map<String, String> mergedExtraProps) {
     SonarLintLogger.get().debug("Standalone mode (project not bound)");
-    var rulesConfig = SonarLintGlobalConfiguration.readRulesConfig();
+    var rulesConfig = SonarLintGlobalConfiguration.getRulesConfig();
     return StandaloneAnalysisConfiguration.builder()
       .setBaseDir(projectBaseDir)
       .addInputFiles(inputFiles)
       .putAllExtraProperties(mergedExtraProps)
-      .addExcludedRules(getExcludedRules(rulesConfig))
-      .addIncludedRules(getIncludedRules(rulesConfig))
-      .addRuleParameters(getRuleParameters(rulesConfig))
+      .addExcludedRules(rulesConfig.getExcludedRules())
+      .addIncludedRules(rulesConfig.getIncludedRules())
+      .addRuleParameters(rulesConfig.getRuleParameters())
       .build();
   }
 
+  @Override
+  protected AnalysisQueue getAnalysisQueue() {
+    return SonarLintCorePlugin.getInstance().getDefaultSonarLintClientFacade().getAnalysisQueue();
+  }
+
   @Override
   protected AnalysisResults runAnalysis(StandaloneAnalysisConfiguration analysisConfig, SonarLintIssueListener issueListener, IProgressMonitor monitor) {
     var standaloneEngine = SonarLintCorePlugin.getInstance().getDefaultSonarLintClientFacade();
     return standaloneEngine.runAnalysis(analysisConfig, issueListener, monitor);
   }
-
-  private static Collection<RuleKey> getExcludedRules(Collection<RuleConfig> rulesConfig) {
-    return rulesConfig.stream()
-      .filter(r -> !r.isActive())
-      .map(r -> RuleKey.parse(r.getKey()))
-      .collect(toList());
-  }
-
-  private static Collection<RuleKey> getIncludedRules(Collection<RuleConfig> rulesConfig) {
-    return rulesConfig.stream()
-      .filter(RuleConfig::isActive)
-      .map(r -> RuleKey.parse(r.getKey()))
-      .collect(toList());
-  }
-
-  private static Map<RuleKey, Map<String, String>> getRuleParameters(Collection<RuleConfig> rulesConfig) {
-    return rulesConfig.stream()
-      .filter(RuleConfig::isActive)
-      .filter(r -> !r.getParams().isEmpty())
-      .collect(Collectors.toMap(r -> RuleKey.parse(r.getKey()), RuleConfig::getParams));
-  }
 }
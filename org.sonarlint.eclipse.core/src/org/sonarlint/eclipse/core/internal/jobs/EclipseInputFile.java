@@ -19,8 +19,7 @@
  */
 package org.sonarlint.eclipse.core.internal.jobs;
 
-import java.io.ByteArrayInputStream;
-import java.io.File;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -28,11 +27,16 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentExtension4;
+import org.sonarlint.eclipse.core.internal.utils.CharSequenceInputStream;
 import org.sonarlint.eclipse.core.resource.ISonarLintFile;
 import org.sonarsource.sonarlint.core.analysis.api.ClientInputFile;
 import org.sonarsource.sonarlint.core.commons.Language;
@@ -40,25 +44,37 @@ import org.sonarsource.sonarlint.core.commons.Language;
 /**
  * Two situations:
  *   - either a IDocument is provided, which mean the file is open in an editor
- *   - if document is <code>null</code> then file is not open but that doesn't mean we can read from FS, since the file might be stored on a remote FS
+ *   - if document is <code>null</code> then file is not open but that doesn't mean we can read from FS, since the file might be stored on a remote FS,
+ *   in which case a physical copy is taken from the {@link AnalysisWorkArea} of the project
  *
+ * When the file is not open, has no unsaved changes and is stored on the local FS, content is streamed from the FS using the file
+ * charset, without connecting a text file buffer. Else content is read from the document and encoded on the fly in UTF-8.
  */
 class EclipseInputFile implements ClientInputFile {
+  private static final String BOM = "\uFEFF";
+  private static final byte[] UTF8_BOM = BOM.getBytes(StandardCharsets.UTF_8);
   private final boolean isTestFile;
   private final ISonarLintFile file;
   @Nullable
   private final Language language;
   @Nullable
   private final IDocument editorDocument;
-  private final Path tempDirectory;
+  private final AnalysisWorkArea workArea;
   @Nullable
   private Path filePath;
   private final long documentModificationStamp;
+  @Nullable
+  private Path localFilePath;
+  private boolean localFilePathResolved;
+  @Nullable
+  private Charset charset;
+  @Nullable
+  private Boolean streamFromFS;
 
-  EclipseInputFile(boolean isTestFile, ISonarLintFile file, Path tempDirectory, @Nullable IDocument editorDocument, @Nullable Language language) {
+  EclipseInputFile(boolean isTestFile, ISonarLintFile file, AnalysisWorkArea workArea, @Nullable IDocument editorDocument, @Nullable Language language) {
     this.isTestFile = isTestFile;
     this.file = file;
-    this.tempDirectory = tempDirectory;
+    this.workArea = workArea;
     this.language = language;
     this.editorDocument = editorDocument;
     this.documentModificationStamp = editorDocument != null ? ((IDocumentExtension4) editorDocument).getModificationStamp() : 0;
@@ -67,28 +83,73 @@ class EclipseInputFile implements ClientInputFile {
   @Override
   public String getPath() {
     if (filePath == null) {
-      initFromFS(file, tempDirectory);
+      initFromFS(file);
     }
     return filePath.toString();
   }
 
-  private synchronized void initFromFS(ISonarLintFile file, Path temporaryDirectory) {
-    IFileStore fileStore;
+  private synchronized void initFromFS(ISonarLintFile file) {
+    if (filePath != null) {
+      return;
+    }
     try {
-      fileStore = EFS.getStore(file.getResource().getLocationURI());
-      var localFile = fileStore.toLocalFile(EFS.NONE, null);
-      if (localFile == null) {
-        // For analyzers to properly work we should ensure the temporary file has a "correct" name, and not a generated one
-        localFile = new File(temporaryDirectory.toFile(), file.getProjectRelativePath());
-        Files.createDirectories(localFile.getParentFile().toPath());
-        fileStore.copy(EFS.getStore(localFile.toURI()), EFS.OVERWRITE, null);
+      var localFile = getLocalFilePath();
+      if (localFile.isPresent()) {
+        filePath = localFile.get();
+      } else {
+        filePath = workArea.getLocalCopy(file, EFS.getStore(file.getResource().getLocationURI()));
       }
-      filePath = localFile.toPath().toAbsolutePath();
     } catch (Exception e) {
       throw new IllegalStateException("Unable to find path for file " + file, e);
     }
   }
 
+  /**
+   * Path of the file when it is stored on the local FS, without making any copy
+   */
+  private synchronized Optional<Path> getLocalFilePath() {
+    if (!localFilePathResolved) {
+      localFilePathResolved = true;
+      try {
+        IFileStore fileStore = EFS.getStore(file.getResource().getLocationURI());
+        var localFile = fileStore.toLocalFile(EFS.NONE, null);
+        if (localFile != null) {
+          localFilePath = localFile.toPath().toAbsolutePath();
+        }
+      } catch (Exception e) {
+        // Not on a local FS
+      }
+    }
+    return Optional.ofNullable(localFilePath);
+  }
+
+  /**
+   * Decided once, so that the charset and the content stay consistent during the analysis
+   */
+  private synchronized boolean streamFromFS() {
+    var result = streamFromFS;
+    if (result == null) {
+      result = editorDocument == null && getLocalFilePath().isPresent() && !hasDirtyBuffer() && canSkipBom(file.getCharset());
+      streamFromFS = result;
+    }
+    return result;
+  }
+
+  /**
+   * Markers are positioned using {@link ISonarLintFile#getDocument()}, that returns the content of the text file buffer if any
+   */
+  private boolean hasDirtyBuffer() {
+    var textFileBuffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getResource().getFullPath(), LocationKind.IFILE);
+    return textFileBuffer != null && textFileBuffer.isDirty();
+  }
+
+  /**
+   * Other Unicode charsets encode the BOM differently, content of such files is read from the document
+   */
+  private static boolean canSkipBom(Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset) || !charset.name().startsWith("UTF-");
+  }
+
   @Override
   public String relativePath() {
     return file.getProjectRelativePath();
@@ -106,7 +167,11 @@ class EclipseInputFile implements ClientInputFile {
 
   @Override
   public Charset getCharset() {
-    return StandardCharsets.UTF_8;
+    if (charset == null) {
+      // When content comes from a document, it is encoded in UTF-8 by inputStream()
+      charset = streamFromFS() ? file.getCharset() : StandardCharsets.UTF_8;
+    }
+    return charset;
   }
 
   @Override
@@ -125,12 +190,38 @@ class EclipseInputFile implements ClientInputFile {
     if (editorDocument != null) {
       return editorDocument.get();
     }
+    if (streamFromFS()) {
+      var content = new String(Files.readAllBytes(getLocalFilePath().get()), getCharset());
+      // Same as a document, don't expose the BOM
+      return content.startsWith(BOM) ? content.substring(1) : content;
+    }
     return file.getDocument().get();
   }
 
   @Override
   public InputStream inputStream() throws IOException {
-    return new ByteArrayInputStream(contents().getBytes(getCharset()));
+    if (streamFromFS()) {
+      var stream = new BufferedInputStream(Files.newInputStream(getLocalFilePath().get()));
+      if (StandardCharsets.UTF_8.equals(getCharset())) {
+        // Same as contents(), don't expose the BOM
+        skipUtf8Bom(stream);
+      }
+      return stream;
+    }
+    return new CharSequenceInputStream(documentContent(), getCharset());
+  }
+
+  private CharSequence documentContent() {
+    // Take a snapshot, the editor document might be modified while the analyzer is reading the stream
+    return editorDocument != null ? editorDocument.get() : file.getDocument().get();
+  }
+
+  private static void skipUtf8Bom(BufferedInputStream stream) throws IOException {
+    stream.mark(UTF8_BOM.length);
+    var start = stream.readNBytes(UTF8_BOM.length);
+    if (!Arrays.equals(start, UTF8_BOM)) {
+      stream.reset();
+    }
   }
 
   public boolean hasDocumentOlderThan(IDocument document) {
@@ -0,0 +1,85 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.jobs;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
+import org.sonarlint.eclipse.core.internal.preferences.SonarLintGlobalConfiguration;
+
+/**
+ * Periodically stop connected engines that have not been used (no analysis, no synchronization) for some time, to release the
+ * memory held by their analyzers. Engines are transparently started again on next use. Disabled by default.
+ */
+public class IdleEnginesEvictionJob extends Job {
+
+  private static final long CHECK_PERIOD_MS = TimeUnit.MINUTES.toMillis(1);
+
+  private final AtomicLong evictedEngines = new AtomicLong();
+
+  public IdleEnginesEvictionJob() {
+    super("Stop idle SonarLint engines");
+    setPriority(DECORATE);
+    setSystem(true);
+  }
+
+  @Override
+  protected IStatus run(IProgressMonitor monitor) {
+    try {
+      var idleTimeout = SonarLintGlobalConfiguration.getEnginesIdleTimeout();
+      if (idleTimeout > 0) {
+        stopIdleEngines(TimeUnit.MINUTES.toMillis(idleTimeout));
+      }
+      return Status.OK_STATUS;
+    } finally {
+      if (!monitor.isCanceled()) {
+        schedule(CHECK_PERIOD_MS);
+      }
+    }
+  }
+
+  private void stopIdleEngines(long idleTimeoutMillis) {
+    var stopped = 0;
+    for (var connection : SonarLintCorePlugin.getServersManager().getServers()) {
+      try {
+        if (connection.stopIfIdle(idleTimeoutMillis)) {
+          stopped++;
+        }
+      } catch (Exception e) {
+        SonarLintLogger.get().error("Unable to stop idle engine of connection '" + connection.getId() + "'", e);
+      }
+    }
+    if (stopped == 0) {
+      return;
+    }
+    var totalEvicted = evictedEngines.addAndGet(stopped);
+    SonarLintLogger.get().info("Stopped " + stopped + " idle SonarLint engine(s) (" + totalEvicted + " since startup)");
+  }
+
+  public long getEvictedEngines() {
+    return evictedEngines.get();
+  }
+
+}
@@ -22,12 +22,14 @@ package org.sonarlint.eclipse.core.internal.jobs;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.eclipse.core.resources.IMarker;
@@ -42,6 +44,7 @@ import org.sonarlint.eclipse.core.internal.TriggerType;
 import org.sonarlint.eclipse.core.internal.engine.connected.ConnectedEngineFacade;
 import org.sonarlint.eclipse.core.internal.markers.MarkerFlow;
 import org.sonarlint.eclipse.core.internal.markers.MarkerFlowLocation;
+import org.sonarlint.eclipse.core.internal.markers.MarkerFlowsAndQuickFixesStore;
 import org.sonarlint.eclipse.core.internal.markers.MarkerFlows;
 import org.sonarlint.eclipse.core.internal.markers.MarkerUtils;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintGlobalConfiguration;
@@ -105,9 +108,12 @@ public class SonarLintMarkerUpdater {
       var bindings = boundSiblingProjects.stream()
         .collect(Collectors.toMap(p -> p, p -> SonarLintCorePlugin.loadConfig(p).getProjectBinding().get()));
 
+      // Many taint issues and flow locations are usually in the same files, only load their document once
+      var documents = new HashMap<ISonarLintFile, IDocument>();
+      Function<ISonarLintFile, IDocument> documentProvider = f -> documents.computeIfAbsent(f, ISonarLintFile::getDocument);
       for (var taintIssue : taintVulnerabilities) {
         findFileForLocationInBoundProjects(bindings, taintIssue.getFilePath())
-          .ifPresent(primaryLocationFile -> createTaintMarker(primaryLocationFile.getDocument(), primaryLocationFile, taintIssue, bindings));
+          .ifPresent(primaryLocationFile -> createTaintMarker(documentProvider.apply(primaryLocationFile), primaryLocationFile, taintIssue, bindings, documentProvider));
       }
       if (!taintVulnerabilities.isEmpty() && taintVulnerabilitiesListener != null) {
         taintVulnerabilitiesListener.markersCreated(facade.isSonarCloud());
@@ -120,7 +126,7 @@ public class SonarLintMarkerUpdater {
     try {
       var markersToDelete = new HashSet<>(List.of(currentFile.getResource().findMarkers(SonarLintCorePlugin.MARKER_TAINT_ID, false, IResource.DEPTH_ZERO)));
       for (var primaryLocationMarker : markersToDelete) {
-        MarkerUtils.getIssueFlows(primaryLocationMarker).deleteAllMarkers();
+        MarkerFlowsAndQuickFixesStore.get().deleteLocationMarkers(primaryLocationMarker);
         primaryLocationMarker.delete();
       }
     } catch (CoreException e) {
@@ -236,7 +242,7 @@ public class SonarLintMarkerUpdater {
   }
 
   private static void createTaintMarker(IDocument document, ISonarLintIssuable issuable, ServerTaintIssue taintIssue,
-    Map<ISonarLintProject, EclipseProjectBinding> bindingsPerProjects) {
+    Map<ISonarLintProject, EclipseProjectBinding> bindingsPerProjects, Function<ISonarLintFile, IDocument> documentProvider) {
     try {
       var marker = issuable.getResource().createMarker(SonarLintCorePlugin.MARKER_TAINT_ID);
 
@@ -265,7 +271,7 @@ public class SonarLintMarkerUpdater {
       var creationDate = taintIssue.getCreationDate().toEpochMilli();
       marker.setAttribute(MarkerUtils.SONAR_MARKER_CREATION_DATE_ATTR, String.valueOf(creationDate));
 
-      createFlowMarkersForTaint(taintIssue, marker, bindingsPerProjects);
+      createFlowMarkersForTaint(taintIssue, marker, bindingsPerProjects, documentProvider);
     } catch (CoreException e) {
       SonarLintLogger.get().error("Unable to create marker", e);
     }
@@ -312,7 +318,7 @@ public class SonarLintMarkerUpdater {
       }
       i++;
     }
-    marker.setAttribute(MarkerUtils.SONAR_MARKER_EXTRA_LOCATIONS_ATTR, new MarkerFlows(flows));
+    MarkerFlowsAndQuickFixesStore.get().putFlows(marker, new MarkerFlows(flows));
   }
 
   private static void createQuickFixMarkersForLocalIssues(IDocument document, ISonarLintIssuable issuable, Trackable trackable, IMarker marker, TriggerType triggerType)
@@ -324,7 +330,7 @@ public class SonarLintMarkerUpdater {
     for (var engineQuickFix : trackable.getQuickFix()) {
       createQuickFix(document, issuable, qfs, engineQuickFix);
     }
-    marker.setAttribute(MarkerUtils.SONAR_MARKER_QUICK_FIXES_ATTR, new MarkerQuickFixes(qfs));
+    MarkerFlowsAndQuickFixesStore.get().putQuickFixes(marker, new MarkerQuickFixes(qfs));
   }
 
   private static void createQuickFix(IDocument document, ISonarLintIssuable issuable, List<MarkerQuickFix> qfs, QuickFix engineQuickFix) {
@@ -379,8 +385,8 @@ public class SonarLintMarkerUpdater {
     }
   }
 
-  private static void createFlowMarkersForTaint(ServerTaintIssue taintIssue, IMarker primaryLocationMarker, Map<ISonarLintProject, EclipseProjectBinding> bindingsPerProjects)
-    throws CoreException {
+  private static void createFlowMarkersForTaint(ServerTaintIssue taintIssue, IMarker primaryLocationMarker, Map<ISonarLintProject, EclipseProjectBinding> bindingsPerProjects,
+    Function<ISonarLintFile, IDocument> documentProvider) throws CoreException {
     var flows = new ArrayList<MarkerFlow>();
     var i = 1;
     for (var engineFlow : taintIssue.getFlows()) {
@@ -397,7 +403,7 @@ public class SonarLintMarkerUpdater {
         }
         var file = locationFile.get();
         try {
-          var marker = createMarkerIfCodeMatches(file, l);
+          var marker = createMarkerIfCodeMatches(file, documentProvider.apply(file), l);
           if (marker != null) {
             flowLocation.setMarker(marker);
           } else {
@@ -409,12 +415,11 @@ public class SonarLintMarkerUpdater {
       }
       i++;
     }
-    primaryLocationMarker.setAttribute(MarkerUtils.SONAR_MARKER_EXTRA_LOCATIONS_ATTR, new MarkerFlows(flows));
+    MarkerFlowsAndQuickFixesStore.get().putFlows(primaryLocationMarker, new MarkerFlows(flows));
   }
 
   @Nullable
-  private static IMarker createMarkerIfCodeMatches(ISonarLintFile file, ServerIssueLocation location) throws BadLocationException, CoreException {
-    var document = file.getDocument();
+  private static IMarker createMarkerIfCodeMatches(ISonarLintFile file, IDocument document, ServerIssueLocation location) throws BadLocationException, CoreException {
     var startOffset = document.getLineOffset(location.getTextRange().getStartLine() - 1) + location.getTextRange().getStartLineOffset();
     var endOffset = document.getLineOffset(location.getTextRange().getEndLine() - 1) + location.getTextRange().getEndLineOffset();
     var inEditorCode = document.get(startOffset, endOffset - startOffset);
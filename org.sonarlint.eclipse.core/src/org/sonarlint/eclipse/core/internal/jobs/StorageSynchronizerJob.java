@@ -28,10 +28,10 @@ import java.util.Set;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
-import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
+import org.sonarlint.eclipse.core.internal.engine.connected.IConnectedEngineFacade;
+import org.sonarlint.eclipse.core.internal.engine.connected.ParallelSynchronizer;
 import org.sonarlint.eclipse.core.internal.engine.connected.ResolvedBinding;
 import org.sonarlint.eclipse.core.resource.ISonarLintProject;
 
@@ -58,23 +58,16 @@ public class StorageSynchronizerJob extends Job {
         .add(bindingOpt.get().getProjectBinding().projectKey());
     }
 
-    var subMonitor = SubMonitor.convert(monitor, projectsToSyncByConnectionId.size());
-    subMonitor.setTaskName("Sync SonarLint Storages");
-    for (Map.Entry<String, Set<String>> entry : projectsToSyncByConnectionId.entrySet()) {
-      String connectionId = entry.getKey();
-      Set<String> projectKeys = entry.getValue();
-      SonarLintCorePlugin.getServersManager().findById(connectionId).ifPresent(connection -> {
-        subMonitor.subTask("Sync SonarLint Storage for connection '" + connectionId + "'");
-        var connectionMonitor = subMonitor.newChild(1);
-        try {
-          connection.autoSync(projectKeys, connectionMonitor);
-        } catch (Exception e) {
-          SonarLintLogger.get().error("Unable to synchronize local storage for connection '" + connection.getId() + "'", e);
-        }
-        connectionMonitor.done();
-      });
+    Map<IConnectedEngineFacade, Set<String>> projectsToSyncByConnection = new HashMap<>();
+    projectsToSyncByConnectionId.forEach((connectionId, projectKeys) -> SonarLintCorePlugin.getServersManager().findById(connectionId)
+      .ifPresent(connection -> projectsToSyncByConnection.put(connection, projectKeys)));
 
-    }
+    monitor.setTaskName("Sync SonarLint Storages");
+    // Connections are independent, synchronize them concurrently
+    ParallelSynchronizer.runAll(projectsToSyncByConnection.keySet(),
+      connection -> "Unable to synchronize local storage for connection '" + connection.getId() + "'",
+      (connection, connectionMonitor) -> connection.autoSync(projectsToSyncByConnection.get(connection), connectionMonitor),
+      monitor);
     return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
   }
 
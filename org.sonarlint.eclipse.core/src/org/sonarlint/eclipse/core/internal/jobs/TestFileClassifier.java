@@ -66,14 +66,14 @@ public class TestFileClassifier {
   public boolean isTest(ISonarLintFile file) {
     for (var typeProvider : SonarLintExtensionTracker.getInstance().getTypeProviders()) {
       if (typeProvider.qualify(file) == ISonarLintFileType.TEST) {
-        SonarLintLogger.get().debug("File '" + file.getProjectRelativePath() + "' qualified as test by '" + typeProvider.getClass().getSimpleName() + "'");
+        SonarLintLogger.get().debug(() -> "File '" + file.getProjectRelativePath() + "' qualified as test by '" + typeProvider.getClass().getSimpleName() + "'");
         return true;
       }
     }
     var fileRelativePath = Paths.get(file.getProjectRelativePath());
     for (var matcher : pathMatchersForTests) {
       if (matcher.matches(fileRelativePath)) {
-        SonarLintLogger.get().debug("File '" + file.getProjectRelativePath() + "' qualified as test by file pattern");
+        SonarLintLogger.get().debug(() -> "File '" + file.getProjectRelativePath() + "' qualified as test by file pattern");
         return true;
       }
     }
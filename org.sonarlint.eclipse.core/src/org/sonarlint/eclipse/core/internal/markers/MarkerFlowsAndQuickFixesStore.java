@@ -0,0 +1,443 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.markers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.internal.quickfixes.MarkerQuickFix;
+import org.sonarlint.eclipse.core.internal.quickfixes.MarkerQuickFixes;
+import org.sonarlint.eclipse.core.internal.quickfixes.MarkerTextEdit;
+
+/**
+ * Flows and quick fixes of issue markers, keyed by resource and marker id.
+ * They are kept in a compact form (arrays of marker ids and strings) instead of object graphs attached to every marker, and only
+ * decoded when requested. The few last decoded ones are kept, so that the selected issue always gets the same instances. Entries
+ * are removed when the issue marker is deleted, and follow it when its resource is moved.
+ */
+public class MarkerFlowsAndQuickFixesStore implements IResourceChangeListener {
+
+  private static final MarkerFlowsAndQuickFixesStore INSTANCE = new MarkerFlowsAndQuickFixesStore();
+  private static final int MAX_DECODED_ENTRIES = 32;
+
+  private final Map<MarkerKey, EncodedFlows> flows = new HashMap<>();
+  private final Map<MarkerKey, EncodedQuickFixes> quickFixes = new HashMap<>();
+  private final Map<MarkerKey, MarkerResolutionsDescriptor> resolutions = new HashMap<>();
+  private final Map<MarkerKey, MarkerFlows> decodedFlows = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<MarkerKey, MarkerFlows> eldest) {
+      if (size() > MAX_DECODED_ENTRIES) {
+        // Locations may have been marked as deleted while the issue was displayed
+        var encoded = flows.get(eldest.getKey());
+        if (encoded != null) {
+          encoded.updateDeleted(eldest.getValue());
+        }
+        return true;
+      }
+      return false;
+    }
+  };
+  private final Map<MarkerKey, MarkerQuickFixes> decodedQuickFixes = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<MarkerKey, MarkerQuickFixes> eldest) {
+      return size() > MAX_DECODED_ENTRIES;
+    }
+  };
+
+  public static MarkerFlowsAndQuickFixesStore get() {
+    return INSTANCE;
+  }
+
+  public void install() {
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+  }
+
+  public void uninstall() {
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+    clear();
+  }
+
+  public synchronized void putFlows(IMarker marker, MarkerFlows markerFlows) {
+    var key = new MarkerKey(marker);
+    decodedFlows.remove(key);
+    if (markerFlows.isEmpty()) {
+      flows.remove(key);
+    } else {
+      flows.put(key, new EncodedFlows(marker.getResource(), markerFlows));
+    }
+    updateResolutions(key);
+  }
+
+  public synchronized MarkerFlows getFlows(IMarker marker) {
+    var key = new MarkerKey(marker);
+    var result = decodedFlows.get(key);
+    if (result == null) {
+      var encoded = flows.get(key);
+      if (encoded == null) {
+        return new MarkerFlows(List.of());
+      }
+      result = encoded.decode(marker.getResource());
+      decodedFlows.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * Same as {@link MarkerFlows#deleteAllMarkers()}, without decoding the flows, so that the decoded ones of other issues are kept
+   */
+  public void deleteLocationMarkers(IMarker marker) {
+    List<IMarker> locationMarkers;
+    synchronized (this) {
+      var encoded = flows.get(new MarkerKey(marker));
+      if (encoded == null) {
+        return;
+      }
+      locationMarkers = encoded.locationMarkers(marker.getResource());
+    }
+    // Outside of the lock, deleting markers may notify resource change listeners
+    for (var locationMarker : locationMarkers) {
+      try {
+        locationMarker.delete();
+      } catch (CoreException e) {
+        SonarLintLogger.get().error(e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Same as {@link MarkerFlows#getSummaryDescription()}, without decoding the flows
+   */
+  public synchronized String getFlowsSummaryDescription(IMarker marker) {
+    var key = new MarkerKey(marker);
+    var decoded = decodedFlows.get(key);
+    if (decoded != null) {
+      return decoded.getSummaryDescription();
+    }
+    var encoded = flows.get(key);
+    return encoded != null ? encoded.getSummaryDescription() : "";
+  }
+
+  public synchronized void putQuickFixes(IMarker marker, MarkerQuickFixes markerQuickFixes) {
+    var key = new MarkerKey(marker);
+    decodedQuickFixes.remove(key);
+    if (markerQuickFixes.getQuickFixes().isEmpty()) {
+      quickFixes.remove(key);
+    } else {
+      quickFixes.put(key, new EncodedQuickFixes(markerQuickFixes));
+    }
+    updateResolutions(key);
+  }
+
+  public synchronized MarkerQuickFixes getQuickFixes(IMarker marker) {
+    var key = new MarkerKey(marker);
+    var result = decodedQuickFixes.get(key);
+    if (result == null) {
+      var encoded = quickFixes.get(key);
+      if (encoded == null) {
+        return new MarkerQuickFixes(List.of());
+      }
+      result = encoded.decode(marker.getResource());
+      decodedQuickFixes.put(key, result);
+    }
+    return result;
+  }
+
+  public synchronized boolean hasQuickFixes(IMarker marker) {
+    return quickFixes.containsKey(new MarkerKey(marker));
+  }
+
+  /**
+   * Cheap enough to be called from the UI thread, nothing is decoded
+   */
+  public synchronized MarkerResolutionsDescriptor getResolutions(IMarker marker) {
+    return resolutions.getOrDefault(new MarkerKey(marker), MarkerResolutionsDescriptor.NONE);
+  }
+
+  private void updateResolutions(MarkerKey key) {
+    var encodedFlows = flows.get(key);
+    var encodedQuickFixes = quickFixes.get(key);
+    if (encodedFlows == null && encodedQuickFixes == null) {
+      resolutions.remove(key);
+      return;
+    }
+    var quickFixDescriptors = encodedQuickFixes != null ? encodedQuickFixes.describe() : List.<MarkerResolutionsDescriptor.QuickFixDescriptor>of();
+    resolutions.put(key, new MarkerResolutionsDescriptor(quickFixDescriptors, encodedFlows != null, encodedFlows != null && encodedFlows.isSecondaryLocations()));
+  }
+
+  private synchronized void remove(MarkerKey key) {
+    flows.remove(key);
+    decodedFlows.remove(key);
+    quickFixes.remove(key);
+    decodedQuickFixes.remove(key);
+    resolutions.remove(key);
+  }
+
+  /**
+   * Markers are moved along with their resource, and keep their id
+   */
+  private synchronized void move(MarkerKey from, MarkerKey to) {
+    var decoded = decodedFlows.remove(from);
+    var encodedFlows = flows.remove(from);
+    if (encodedFlows != null) {
+      if (decoded != null) {
+        encodedFlows.updateDeleted(decoded);
+      }
+      flows.put(to, encodedFlows);
+    }
+    // Decoded instances reference the markers of the previous resource
+    decodedQuickFixes.remove(from);
+    var encodedQuickFixes = quickFixes.remove(from);
+    if (encodedQuickFixes != null) {
+      quickFixes.put(to, encodedQuickFixes);
+    }
+    var resolution = resolutions.remove(from);
+    if (resolution != null) {
+      resolutions.put(to, resolution);
+    }
+  }
+
+  public synchronized void clear() {
+    flows.clear();
+    decodedFlows.clear();
+    quickFixes.clear();
+    decodedQuickFixes.clear();
+    resolutions.clear();
+  }
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent event) {
+    for (var markerType : MarkerUtils.SONARLINT_PRIMARY_MARKER_IDS) {
+      for (var markerDelta : event.findMarkerDeltas(markerType, false)) {
+        if (markerDelta.getKind() == IMarkerDelta.REMOVED) {
+          var key = new MarkerKey(markerDelta.getResource().getFullPath(), markerDelta.getId());
+          var movedTo = getMovedToPath(event, markerDelta.getResource());
+          if (movedTo != null) {
+            move(key, new MarkerKey(movedTo, markerDelta.getId()));
+          } else {
+            remove(key);
+          }
+        }
+      }
+    }
+  }
+
+  @Nullable
+  private static IPath getMovedToPath(IResourceChangeEvent event, IResource resource) {
+    var rootDelta = event.getDelta();
+    var resourceDelta = rootDelta != null ? rootDelta.findMember(resource.getFullPath()) : null;
+    if (resourceDelta != null && (resourceDelta.getFlags() & IResourceDelta.MOVED_TO) != 0) {
+      return resourceDelta.getMovedToPath();
+    }
+    return null;
+  }
+
+  /**
+   * Marker ids are only guaranteed to be unique for a given resource
+   */
+  private static final class MarkerKey {
+    private final IPath resourcePath;
+    private final long id;
+
+    private MarkerKey(IMarker marker) {
+      this(marker.getResource().getFullPath(), marker.getId());
+    }
+
+    private MarkerKey(IPath resourcePath, long id) {
+      this.resourcePath = resourcePath;
+      this.id = id;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * resourcePath.hashCode() + Long.hashCode(id);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof MarkerKey)) {
+        return false;
+      }
+      var other = (MarkerKey) obj;
+      return id == other.id && resourcePath.equals(other.resourcePath);
+    }
+  }
+
+  private static final class EncodedFlows {
+    private final int[] flowSizes;
+    // -1 when no marker could be created for the location
+    private final long[] markerIds;
+    // null when the location marker is on the same resource than the issue marker
+    private final @Nullable IResource[] resources;
+    private final @Nullable String[] messages;
+    private final @Nullable String[] filePaths;
+    private final BitSet deleted = new BitSet();
+
+    private EncodedFlows(IResource issueResource, MarkerFlows markerFlows) {
+      var locationCount = (int) markerFlows.allLocationsAsStream().count();
+      flowSizes = new int[markerFlows.count()];
+      markerIds = new long[locationCount];
+      resources = new IResource[locationCount];
+      messages = new String[locationCount];
+      filePaths = new String[locationCount];
+      var i = 0;
+      for (var flowIndex = 0; flowIndex < flowSizes.length; flowIndex++) {
+        var flow = markerFlows.getFlows().get(flowIndex);
+        flowSizes[flowIndex] = flow.getLocations().size();
+        for (var location : flow.getLocations()) {
+          var marker = location.getMarker();
+          markerIds[i] = marker != null ? marker.getId() : -1;
+          resources[i] = marker != null && !issueResource.equals(marker.getResource()) ? marker.getResource() : null;
+          messages[i] = location.getMessage();
+          filePaths[i] = location.getFilePath();
+          deleted.set(i, location.isDeleted());
+          i++;
+        }
+      }
+    }
+
+    private MarkerFlows decode(IResource issueResource) {
+      var result = new ArrayList<MarkerFlow>(flowSizes.length);
+      var i = 0;
+      for (var flowIndex = 0; flowIndex < flowSizes.length; flowIndex++) {
+        var flow = new MarkerFlow(flowIndex + 1);
+        result.add(flow);
+        for (var j = 0; j < flowSizes[flowIndex]; j++) {
+          var location = new MarkerFlowLocation(flow, messages[i], filePaths[i]);
+          if (markerIds[i] != -1) {
+            var resource = resources[i];
+            location.setMarker((resource != null ? resource : issueResource).getMarker(markerIds[i]));
+          }
+          location.setDeleted(deleted.get(i));
+          i++;
+        }
+      }
+      return new MarkerFlows(result);
+    }
+
+    private List<IMarker> locationMarkers(IResource issueResource) {
+      var result = new ArrayList<IMarker>(markerIds.length);
+      for (var i = 0; i < markerIds.length; i++) {
+        if (markerIds[i] != -1) {
+          var resource = resources[i];
+          result.add((resource != null ? resource : issueResource).getMarker(markerIds[i]));
+        }
+      }
+      return result;
+    }
+
+    private void updateDeleted(MarkerFlows decoded) {
+      var i = 0;
+      for (var flow : decoded.getFlows()) {
+        for (var location : flow.getLocations()) {
+          deleted.set(i, location.isDeleted());
+          i++;
+        }
+      }
+    }
+
+    private boolean isSecondaryLocations() {
+      for (var flowSize : flowSizes) {
+        if (flowSize != 1) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private String getSummaryDescription() {
+      if (isSecondaryLocations() || flowSizes.length == 1) {
+        var count = markerIds.length;
+        return " [+" + count + " location" + (count == 1 ? "" : "s") + "]";
+      }
+      return " [+" + flowSizes.length + " flows]";
+    }
+  }
+
+  private static final class EncodedQuickFixes {
+    private final String[] messages;
+    private final int[] editCounts;
+    private final long[] editMarkerIds;
+    private final String[] newTexts;
+
+    private EncodedQuickFixes(MarkerQuickFixes markerQuickFixes) {
+      var qfs = markerQuickFixes.getQuickFixes();
+      var editCount = qfs.stream().mapToInt(qf -> qf.getTextEdits().size()).sum();
+      messages = new String[qfs.size()];
+      editCounts = new int[qfs.size()];
+      editMarkerIds = new long[editCount];
+      newTexts = new String[editCount];
+      var i = 0;
+      for (var qfIndex = 0; qfIndex < messages.length; qfIndex++) {
+        var qf = qfs.get(qfIndex);
+        messages[qfIndex] = qf.getMessage();
+        editCounts[qfIndex] = qf.getTextEdits().size();
+        for (var textEdit : qf.getTextEdits()) {
+          editMarkerIds[i] = textEdit.getMarker().getId();
+          newTexts[i] = textEdit.getNewText();
+          i++;
+        }
+      }
+    }
+
+    private MarkerQuickFixes decode(IResource issueResource) {
+      var result = new ArrayList<MarkerQuickFix>(messages.length);
+      var i = 0;
+      for (var qfIndex = 0; qfIndex < messages.length; qfIndex++) {
+        var qf = new MarkerQuickFix(messages[qfIndex]);
+        for (var j = 0; j < editCounts[qfIndex]; j++) {
+          qf.addTextEdit(new MarkerTextEdit(issueResource.getMarker(editMarkerIds[i]), newTexts[i]));
+          i++;
+        }
+        result.add(qf);
+      }
+      return new MarkerQuickFixes(result);
+    }
+
+    private List<MarkerResolutionsDescriptor.QuickFixDescriptor> describe() {
+      var result = new ArrayList<MarkerResolutionsDescriptor.QuickFixDescriptor>(messages.length);
+      var i = 0;
+      for (var qfIndex = 0; qfIndex < messages.length; qfIndex++) {
+        var qfEditMarkerIds = Arrays.copyOfRange(editMarkerIds, i, i + editCounts[qfIndex]);
+        result.add(new MarkerResolutionsDescriptor.QuickFixDescriptor(qfIndex, messages[qfIndex], qfEditMarkerIds));
+        i += editCounts[qfIndex];
+      }
+      return List.copyOf(result);
+    }
+  }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.markers;
+
+import java.util.List;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.internal.quickfixes.MarkerQuickFix;
+
+/**
+ * What is needed to list the resolutions of an issue marker, computed when its flows and quick fixes are stored, so that neither
+ * have to be decoded before the user picks a resolution.
+ */
+public class MarkerResolutionsDescriptor {
+
+  static final MarkerResolutionsDescriptor NONE = new MarkerResolutionsDescriptor(List.of(), false, false);
+
+  private final List<QuickFixDescriptor> quickFixes;
+  private final boolean hasFlows;
+  private final boolean secondaryLocations;
+
+  MarkerResolutionsDescriptor(List<QuickFixDescriptor> quickFixes, boolean hasFlows, boolean secondaryLocations) {
+    this.quickFixes = quickFixes;
+    this.hasFlows = hasFlows;
+    this.secondaryLocations = secondaryLocations;
+  }
+
+  public List<QuickFixDescriptor> getQuickFixes() {
+    return quickFixes;
+  }
+
+  public boolean hasFlows() {
+    return hasFlows;
+  }
+
+  /**
+   * Same as {@link MarkerFlows#isSecondaryLocations()}
+   */
+  public boolean isSecondaryLocations() {
+    return secondaryLocations;
+  }
+
+  public static class QuickFixDescriptor {
+    private final int index;
+    private final String message;
+    private final long[] editMarkerIds;
+
+    QuickFixDescriptor(int index, String message, long[] editMarkerIds) {
+      this.index = index;
+      this.message = message;
+      this.editMarkerIds = editMarkerIds;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+
+    /**
+     * Same as {@link MarkerQuickFix#isValid()}, the issue marker being on a SonarLint file
+     */
+    public boolean isValid(IMarker issueMarker) {
+      var resource = issueMarker.getResource();
+      for (var editMarkerId : editMarkerIds) {
+        if (!resource.getMarker(editMarkerId).exists()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * @return the decoded quick fix, or null if the quick fixes of the issue changed in between
+     */
+    @Nullable
+    public MarkerQuickFix decode(IMarker issueMarker) {
+      var qfs = MarkerFlowsAndQuickFixesStore.get().getQuickFixes(issueMarker).getQuickFixes();
+      if (index < qfs.size() && qfs.get(index).getMessage().equals(message)) {
+        return qfs.get(index);
+      }
+      return null;
+    }
+  }
+
+}
@@ -19,8 +19,6 @@
  */
 package org.sonarlint.eclipse.core.internal.markers;
 
-import java.util.Collections;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
 import org.eclipse.core.resources.IMarker;
@@ -47,8 +45,6 @@ public final class MarkerUtils {
   public static final String SONAR_MARKER_CREATION_DATE_ATTR = "creationdate";
 
   public static final String SONAR_MARKER_SERVER_ISSUE_KEY_ATTR = "serverissuekey";
-  public static final String SONAR_MARKER_EXTRA_LOCATIONS_ATTR = "extralocations";
-  public static final String SONAR_MARKER_QUICK_FIXES_ATTR = "quickfixes";
   public static final String SONAR_MARKER_RULE_DESC_CONTEXT_KEY_ATTR = "rulecontextkey";
 
   public static final Set<String> SONARLINT_PRIMARY_MARKER_IDS = Set.of(
@@ -118,19 +114,23 @@ public final class MarkerUtils {
   }
 
   public static MarkerFlows getIssueFlows(IMarker marker) {
-    try {
-      return Optional.ofNullable((MarkerFlows) marker.getAttribute(SONAR_MARKER_EXTRA_LOCATIONS_ATTR)).orElseGet(() -> new MarkerFlows(Collections.emptyList()));
-    } catch (CoreException e) {
-      return new MarkerFlows(Collections.emptyList());
-    }
+    return MarkerFlowsAndQuickFixesStore.get().getFlows(marker);
+  }
+
+  public static String getIssueFlowsSummaryDescription(IMarker marker) {
+    return MarkerFlowsAndQuickFixesStore.get().getFlowsSummaryDescription(marker);
   }
 
   public static MarkerQuickFixes getIssueQuickFixes(IMarker marker) {
-    try {
-      return Optional.ofNullable((MarkerQuickFixes) marker.getAttribute(SONAR_MARKER_QUICK_FIXES_ATTR)).orElseGet(() -> new MarkerQuickFixes(Collections.emptyList()));
-    } catch (CoreException e) {
-      return new MarkerQuickFixes(Collections.emptyList());
-    }
+    return MarkerFlowsAndQuickFixesStore.get().getQuickFixes(marker);
+  }
+
+  public static MarkerResolutionsDescriptor getIssueResolutions(IMarker marker) {
+    return MarkerFlowsAndQuickFixesStore.get().getResolutions(marker);
+  }
+
+  public static boolean hasIssueQuickFixes(IMarker marker) {
+    return MarkerFlowsAndQuickFixesStore.get().hasQuickFixes(marker);
   }
 
 }
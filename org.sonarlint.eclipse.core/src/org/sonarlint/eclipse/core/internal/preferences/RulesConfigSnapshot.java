@@ -0,0 +1,129 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.preferences;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarsource.sonarlint.core.clientapi.backend.rules.StandaloneRuleConfigDto;
+import org.sonarsource.sonarlint.core.commons.RuleKey;
+
+/**
+ * Parsed rules configuration, indexed for analyses and telemetry. Immutable, see {@link SonarLintGlobalConfiguration#getRulesConfig()}.
+ */
+public class RulesConfigSnapshot {
+
+  private final List<RuleConfig> rules;
+  private final Set<RuleKey> includedRules;
+  private final Set<RuleKey> excludedRules;
+  private final Set<String> includedRuleKeys;
+  private final Set<String> excludedRuleKeys;
+  private final Map<RuleKey, Map<String, String>> ruleParameters;
+  private final Map<String, StandaloneRuleConfigDto> standaloneRulesConfig;
+
+  RulesConfigSnapshot(Collection<RuleConfig> rules) {
+    this.rules = List.copyOf(rules);
+    var included = new HashSet<RuleKey>();
+    var excluded = new HashSet<RuleKey>();
+    var includedKeys = new HashSet<String>();
+    var excludedKeys = new HashSet<String>();
+    var params = new HashMap<RuleKey, Map<String, String>>();
+    var standaloneConfig = new HashMap<String, StandaloneRuleConfigDto>();
+    for (var rule : this.rules) {
+      var ruleKey = parseRuleKey(rule.getKey());
+      if (rule.isActive()) {
+        includedKeys.add(rule.getKey());
+        if (ruleKey != null) {
+          included.add(ruleKey);
+          if (!rule.getParams().isEmpty()) {
+            params.put(ruleKey, Map.copyOf(rule.getParams()));
+          }
+        }
+      } else {
+        excludedKeys.add(rule.getKey());
+        if (ruleKey != null) {
+          excluded.add(ruleKey);
+        }
+      }
+      standaloneConfig.put(rule.getKey(), new StandaloneRuleConfigDto(rule.isActive(), Map.copyOf(rule.getParams())));
+    }
+    this.includedRules = Set.copyOf(included);
+    this.excludedRules = Set.copyOf(excluded);
+    this.includedRuleKeys = Set.copyOf(includedKeys);
+    this.excludedRuleKeys = Set.copyOf(excludedKeys);
+    this.ruleParameters = Map.copyOf(params);
+    this.standaloneRulesConfig = Map.copyOf(standaloneConfig);
+  }
+
+  @Nullable
+  private static RuleKey parseRuleKey(String key) {
+    if (key.indexOf(':') < 0) {
+      SonarLintLogger.get().debug("Ignoring invalid rule key in rules configuration: " + key);
+      return null;
+    }
+    return RuleKey.parse(key);
+  }
+
+  public Set<RuleKey> getIncludedRules() {
+    return includedRules;
+  }
+
+  public Set<RuleKey> getExcludedRules() {
+    return excludedRules;
+  }
+
+  public Set<String> getIncludedRuleKeys() {
+    return includedRuleKeys;
+  }
+
+  public Set<String> getExcludedRuleKeys() {
+    return excludedRuleKeys;
+  }
+
+  /**
+   * @return parameters of active rules, for rules having some
+   */
+  public Map<RuleKey, Map<String, String>> getRuleParameters() {
+    return ruleParameters;
+  }
+
+  public Map<String, StandaloneRuleConfigDto> getStandaloneRulesConfig() {
+    return standaloneRulesConfig;
+  }
+
+  /**
+   * @return a modifiable copy of the rules configuration, that can be saved with {@link SonarLintGlobalConfiguration#saveRulesConfig(Collection)}
+   */
+  public Set<RuleConfig> copyRules() {
+    var result = new HashSet<RuleConfig>();
+    for (var rule : rules) {
+      var copy = new RuleConfig(rule.getKey(), rule.isActive());
+      copy.getParams().putAll(rule.getParams());
+      result.add(copy);
+    }
+    return result;
+  }
+
+}
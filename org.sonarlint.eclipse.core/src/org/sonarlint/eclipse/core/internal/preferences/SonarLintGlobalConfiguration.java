@@ -19,6 +19,7 @@
  */
 package org.sonarlint.eclipse.core.internal.preferences;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,6 +30,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,6 +38,8 @@ import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.preferences.ConfigurationScope;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.INodeChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.NodeChangeEvent;
 import org.eclipse.jdt.annotation.Nullable;
 import org.osgi.service.prefs.BackingStoreException;
 import org.osgi.service.prefs.Preferences;
@@ -69,8 +73,20 @@ public class SonarLintGlobalConfiguration {
   public static final String PREF_TEST_FILE_REGEXPS_DEFAULT = ""; //$NON-NLS-1$
   public static final String PREF_SKIP_CONFIRM_ANALYZE_MULTIPLE_FILES = "skipConfirmAnalyzeMultipleFiles"; //$NON-NLS-1$
   public static final String PREF_NODEJS_PATH = "nodeJsPath"; //$NON-NLS-1$
+  public static final String PREF_ENGINES_WARM_UP = "enginesWarmUp"; //$NON-NLS-1$
+  public static final String PREF_ENGINES_IDLE_TIMEOUT = "enginesIdleTimeout"; //$NON-NLS-1$
+  public static final int PREF_ENGINES_IDLE_TIMEOUT_DEFAULT = 0;
   private static final String PREF_TAINT_VULNERABILITY_DISPLAYED = "taintVulnerabilityDisplayed";
   private static final String PREF_SECRETS_EVER_DETECTED = "secretsEverDetected";
+  private static final Gson GSON = new Gson();
+  private static final Type RULES_CONFIG_TYPE = new TypeToken<Map<String, RuleConfigGson>>() {
+  }.getType();
+
+  @Nullable
+  private static volatile RulesConfigSnapshot rulesConfig;
+  @Nullable
+  private static IEclipsePreferences listenedRulesConfigNode;
+  private static final AtomicLong rulesConfigInvalidationCount = new AtomicLong();
 
   private SonarLintGlobalConfiguration() {
     // Utility class
@@ -80,6 +96,13 @@ public class SonarLintGlobalConfiguration {
     return Platform.getPreferencesService().getString(SonarLintCorePlugin.UI_PLUGIN_ID, PREF_TEST_FILE_REGEXPS, PREF_TEST_FILE_REGEXPS_DEFAULT, null);
   }
 
+  /**
+   * @return the number of minutes without usage after which a connected engine is stopped, or 0 to never stop them
+   */
+  public static int getEnginesIdleTimeout() {
+    return Platform.getPreferencesService().getInt(SonarLintCorePlugin.UI_PLUGIN_ID, PREF_ENGINES_IDLE_TIMEOUT, PREF_ENGINES_IDLE_TIMEOUT_DEFAULT, null);
+  }
+
   public static int getMarkerSeverity() {
     return Platform.getPreferencesService().getInt(SonarLintCorePlugin.UI_PLUGIN_ID, PREF_MARKER_SEVERITY, PREF_MARKER_SEVERITY_DEFAULT, null);
   }
@@ -181,27 +204,83 @@ public class SonarLintGlobalConfiguration {
   }
 
   public static Collection<RuleKey> getExcludedRules() {
-    return readRulesConfig().stream()
-      .filter(r -> !r.isActive())
-      .map(r -> RuleKey.parse(r.getKey()))
-      .collect(toList());
+    return getRulesConfig().getExcludedRules();
   }
 
   public static Collection<RuleKey> getIncludedRules() {
-    return readRulesConfig().stream()
-      .filter(RuleConfig::isActive)
-      .map(r -> RuleKey.parse(r.getKey()))
-      .collect(toList());
+    return getRulesConfig().getIncludedRules();
   }
 
   public static Map<String, StandaloneRuleConfigDto> buildStandaloneRulesConfig() {
-    return readRulesConfig().stream()
-      .collect(Collectors.toMap(r -> r.getKey(), r -> new StandaloneRuleConfigDto(r.isActive(), Map.copyOf(r.getParams()))));
+    return getRulesConfig().getStandaloneRulesConfig();
   }
 
+  /**
+   * @return a modifiable copy of the rules configuration
+   */
   public static Set<RuleConfig> readRulesConfig() {
-    var json = getPreferenceString(PREF_RULES_CONFIG);
-    return deserializeRulesJson(json);
+    return getRulesConfig().copyRules();
+  }
+
+  /**
+   * The rules configuration is only parsed again after {@link #PREF_RULES_CONFIG} changed.
+   */
+  public static RulesConfigSnapshot getRulesConfig() {
+    var cached = rulesConfig;
+    if (cached != null) {
+      return cached;
+    }
+    var invalidationCountBeforeLoad = rulesConfigInvalidationCount.get();
+    listenToRulesConfigChanges();
+    var snapshot = new RulesConfigSnapshot(deserializeRulesJson(getPreferenceString(PREF_RULES_CONFIG)));
+    synchronized (SonarLintGlobalConfiguration.class) {
+      // Don't cache a configuration read while it was changed
+      if (rulesConfigInvalidationCount.get() == invalidationCountBeforeLoad) {
+        rulesConfig = snapshot;
+      }
+    }
+    return snapshot;
+  }
+
+  private static synchronized void listenToRulesConfigChanges() {
+    var node = getInstancePreferenceNode();
+    if (listenedRulesConfigNode == node) {
+      return;
+    }
+    listenedRulesConfigNode = node;
+    node.addPreferenceChangeListener(event -> {
+      if (PREF_RULES_CONFIG.equals(event.getKey())) {
+        invalidateRulesConfig();
+      }
+    });
+    var parent = node.parent();
+    if (parent instanceof IEclipsePreferences) {
+      // The node is removed when preferences are reset
+      ((IEclipsePreferences) parent).addNodeChangeListener(new INodeChangeListener() {
+        @Override
+        public void added(NodeChangeEvent event) {
+          // Nothing to do
+        }
+
+        @Override
+        public void removed(NodeChangeEvent event) {
+          if (event.getChild() == node) {
+            ((IEclipsePreferences) parent).removeNodeChangeListener(this);
+            synchronized (SonarLintGlobalConfiguration.class) {
+              if (listenedRulesConfigNode == node) {
+                listenedRulesConfigNode = null;
+              }
+            }
+            invalidateRulesConfig();
+          }
+        }
+      });
+    }
+  }
+
+  private static synchronized void invalidateRulesConfig() {
+    rulesConfigInvalidationCount.incrementAndGet();
+    rulesConfig = null;
   }
 
   private static class RuleConfigGson {
@@ -222,9 +301,7 @@ public class SonarLintGlobalConfiguration {
     if (StringUtils.isBlank(json)) {
       return Collections.emptySet();
     }
-    var mapType = new TypeToken<Map<String, RuleConfigGson>>() {
-    }.getType();
-    Map<String, RuleConfigGson> rulesByKey = new Gson().fromJson(json, mapType);
+    Map<String, RuleConfigGson> rulesByKey = GSON.fromJson(json, RULES_CONFIG_TYPE);
     var result = new HashSet<RuleConfig>();
     try {
       rulesByKey.forEach((key, config) -> {
@@ -263,9 +340,7 @@ public class SonarLintGlobalConfiguration {
         }
         rulesByKey.put(rule.getKey(), ruleJson);
       });
-    var mapType = new TypeToken<Map<String, RuleConfigGson>>() {
-    }.getType();
-    return new Gson().toJson(rulesByKey, mapType);
+    return GSON.toJson(rulesByKey, RULES_CONFIG_TYPE);
   }
 
   public static void setSkipConfirmAnalyzeMultipleFiles() {
@@ -284,6 +359,10 @@ public class SonarLintGlobalConfiguration {
     return getPreferenceString(PREF_NODEJS_PATH);
   }
 
+  public static boolean isEnginesWarmUpEnabled() {
+    return getPreferenceBoolean(PREF_ENGINES_WARM_UP);
+  }
+
   public static boolean taintVulnerabilityNeverBeenDisplayed() {
     return !getPreferenceBoolean(PREF_TAINT_VULNERABILITY_DISPLAYED);
   }
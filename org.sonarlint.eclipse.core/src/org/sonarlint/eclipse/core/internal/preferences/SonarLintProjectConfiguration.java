@@ -28,14 +28,63 @@ import org.sonarlint.eclipse.core.internal.resources.ExclusionItem;
 import org.sonarlint.eclipse.core.internal.resources.SonarLintProperty;
 import org.sonarsource.sonarlint.core.serverconnection.ProjectBinding;
 
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
 public class SonarLintProjectConfiguration {
 
-  private final List<SonarLintProperty> extraProperties = new ArrayList<>();
-  private final List<ExclusionItem> fileExclusions = new ArrayList<>();
+  private final List<SonarLintProperty> extraProperties;
+  private final List<ExclusionItem> fileExclusions;
   @Nullable
   private EclipseProjectBinding projectBinding;
   private boolean autoEnabled = true;
   private boolean bindingSuggestionsDisabled = false;
+  private final boolean snapshot;
+
+  public SonarLintProjectConfiguration() {
+    this.extraProperties = new ArrayList<>();
+    this.fileExclusions = new ArrayList<>();
+    this.snapshot = false;
+  }
+
+  private SonarLintProjectConfiguration(SonarLintProjectConfiguration source, List<SonarLintProperty> extraProperties,
+    List<ExclusionItem> fileExclusions, boolean snapshot) {
+    this.extraProperties = extraProperties;
+    this.fileExclusions = fileExclusions;
+    this.projectBinding = source.projectBinding;
+    this.autoEnabled = source.autoEnabled;
+    this.bindingSuggestionsDisabled = source.bindingSuggestionsDisabled;
+    this.snapshot = snapshot;
+  }
+
+  /**
+   * Immutable copy of this configuration
+   */
+  SonarLintProjectConfiguration snapshot() {
+    return new SonarLintProjectConfiguration(this,
+      extraProperties.stream().map(SonarLintProperty::new).collect(toUnmodifiableList()), List.copyOf(fileExclusions), true);
+  }
+
+  /**
+   * Modifiable copy of this configuration, that can be saved once updated
+   */
+  public SonarLintProjectConfiguration copy() {
+    return new SonarLintProjectConfiguration(this,
+      extraProperties.stream().map(SonarLintProperty::new).collect(toCollection(ArrayList::new)), new ArrayList<>(fileExclusions), false);
+  }
+
+  /**
+   * @return true if this configuration is an immutable snapshot, see {@link SonarLintProjectConfigurationManager#loadCached}
+   */
+  public boolean isSnapshot() {
+    return snapshot;
+  }
+
+  private void checkModifiable() {
+    if (isSnapshot()) {
+      throw new UnsupportedOperationException("Configuration snapshots can't be modified, use a copy");
+    }
+  }
 
   public List<ExclusionItem> getFileExclusions() {
     return fileExclusions;
@@ -54,10 +103,12 @@ public class SonarLintProjectConfiguration {
   }
 
   public void setAutoEnabled(boolean autoEnabled) {
+    checkModifiable();
     this.autoEnabled = autoEnabled;
   }
 
   public void setProjectBinding(@Nullable EclipseProjectBinding projectBinding) {
+    checkModifiable();
     this.projectBinding = projectBinding;
   }
 
@@ -108,6 +159,7 @@ public class SonarLintProjectConfiguration {
   }
 
   public void setBindingSuggestionsDisabled(boolean bindingSuggestionsDisabled) {
+    checkModifiable();
     this.bindingSuggestionsDisabled = bindingSuggestionsDisabled;
   }
 
@@ -19,8 +19,14 @@
  */
 package org.sonarlint.eclipse.core.internal.preferences;
 
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.INodeChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.NodeChangeEvent;
 import org.eclipse.core.runtime.preferences.IScopeContext;
 import org.osgi.service.prefs.BackingStoreException;
 import org.sonarlint.eclipse.core.SonarLintLogger;
@@ -50,6 +56,13 @@ public class SonarLintProjectConfigurationManager {
 
   private static final Set<String> BINDING_RELATED_PROPERTIES = Set.of(P_PROJECT_KEY, P_SERVER_ID, P_BINDING_SUGGESTIONS_DISABLED_KEY);
 
+  // Immutable snapshots of the project configurations, dropped when project preferences change
+  private final Map<ISonarLintProject, SonarLintProjectConfiguration> cachedConfigs = new ConcurrentHashMap<>();
+  private final Map<ISonarLintProject, IEclipsePreferences> listenedNodes = new ConcurrentHashMap<>();
+  private final AtomicLong invalidationCount = new AtomicLong();
+  // Nodes being written by save(), invalidated once after the flush instead of once per key
+  private final Set<IEclipsePreferences> nodesBeingSaved = ConcurrentHashMap.newKeySet();
+
   public static void registerPreferenceChangeListenerForBindingProperties(ISonarLintProject project, Consumer<ISonarLintProject> listener) {
     ofNullable(project.getScopeContext().getNode(SonarLintCorePlugin.PLUGIN_ID))
       .ifPresent(node -> {
@@ -61,6 +74,64 @@ public class SonarLintProjectConfigurationManager {
       });
   }
 
+  /**
+   * Immutable snapshot of the configuration of the project, only read again from preferences after they changed.
+   * A new snapshot is returned after each change, so callers can keep one to get consistent values for a whole operation.
+   * Use {@link SonarLintProjectConfiguration#copy()} to get a configuration that can be modified and saved.
+   */
+  public SonarLintProjectConfiguration loadCached(ISonarLintProject project) {
+    var config = cachedConfigs.get(project);
+    if (config == null) {
+      var invalidationCountBeforeLoad = invalidationCount.get();
+      listenToChanges(project);
+      config = load(project.getScopeContext(), project.getName()).snapshot();
+      if (invalidationCount.get() == invalidationCountBeforeLoad) {
+        cachedConfigs.put(project, config);
+      }
+    }
+    return config;
+  }
+
+  private void listenToChanges(ISonarLintProject project) {
+    var projectNode = project.getScopeContext().getNode(SonarLintCorePlugin.PLUGIN_ID);
+    if (projectNode == null || listenedNodes.get(project) == projectNode) {
+      return;
+    }
+    listenedNodes.put(project, projectNode);
+    projectNode.addPreferenceChangeListener(event -> {
+      if (!nodesBeingSaved.contains(projectNode)) {
+        invalidate(project);
+      }
+    });
+    var parent = projectNode.parent();
+    if (parent instanceof IEclipsePreferences) {
+      // The node is removed when the project is closed, deleted, or when its settings are deleted
+      ((IEclipsePreferences) parent).addNodeChangeListener(new INodeChangeListener() {
+        @Override
+        public void added(NodeChangeEvent event) {
+          // Nothing to do
+        }
+
+        @Override
+        public void removed(NodeChangeEvent event) {
+          if (event.getChild() == projectNode) {
+            ((IEclipsePreferences) parent).removeNodeChangeListener(this);
+            listenedNodes.remove(project, projectNode);
+            invalidate(project);
+          }
+        }
+      });
+    }
+  }
+
+  private void invalidate(ISonarLintProject project) {
+    invalidationCount.incrementAndGet();
+    cachedConfigs.remove(project);
+  }
+
+  /**
+   * Read the configuration from preferences. Most callers should use {@link #loadCached(ISonarLintProject)} instead.
+   */
   public SonarLintProjectConfiguration load(IScopeContext projectScope, String projectName) {
     var projectNode = projectScope.getNode(SonarLintCorePlugin.PLUGIN_ID);
     var projectConfig = new SonarLintProjectConfiguration();
@@ -80,7 +151,6 @@ public class SonarLintProjectConfigurationManager {
     if (isBlank(projectKey) && isNotBlank(moduleKey)) {
       SonarLintLogger.get().info("Binding configuration of project '" + projectName + "' is outdated. Please rebind this project.");
     }
-    projectNode.remove(P_MODULE_KEY);
     var serverId = projectNode.get(P_SERVER_ID, "");
     if (isNotBlank(serverId) && isNotBlank(projectKey)) {
       projectConfig.setProjectBinding(new EclipseProjectBinding(serverId, projectKey, projectNode.get(P_SQ_PREFIX_KEY, ""), projectNode.get(P_IDE_PREFIX_KEY, "")));
@@ -96,6 +166,20 @@ public class SonarLintProjectConfigurationManager {
       throw new IllegalStateException("Unable to get SonarLint settings node");
     }
 
+    nodesBeingSaved.add(projectNode);
+    try {
+      write(projectNode, configuration);
+    } finally {
+      nodesBeingSaved.remove(projectNode);
+      listenedNodes.forEach((project, node) -> {
+        if (node == projectNode) {
+          invalidate(project);
+        }
+      });
+    }
+  }
+
+  private static void write(IEclipsePreferences projectNode, SonarLintProjectConfiguration configuration) {
     if (!configuration.getExtraProperties().isEmpty()) {
       var props = SonarLintGlobalConfiguration.serializeExtraProperties(configuration.getExtraProperties());
       projectNode.put(P_EXTRA_PROPS, props);
@@ -124,6 +208,8 @@ public class SonarLintProjectConfigurationManager {
         projectNode.remove(P_IDE_PREFIX_KEY);
       });
 
+    // Deprecated key is only cleaned when the configuration is saved, to not write preferences while reading them
+    projectNode.remove(P_MODULE_KEY);
     projectNode.putBoolean(P_AUTO_ENABLED_KEY, configuration.isAutoEnabled());
     projectNode.putBoolean(P_BINDING_SUGGESTIONS_DISABLED_KEY, configuration.isBindingSuggestionsDisabled());
     try {
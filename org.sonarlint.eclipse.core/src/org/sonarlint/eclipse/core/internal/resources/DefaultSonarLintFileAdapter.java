@@ -19,6 +19,7 @@
  */
 package org.sonarlint.eclipse.core.internal.resources;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Objects;
 import org.eclipse.core.filebuffers.FileBuffers;
@@ -26,7 +27,7 @@ import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
 import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.vcs.VcsService;
@@ -35,6 +36,8 @@ import org.sonarlint.eclipse.core.resource.ISonarLintProject;
 
 public class DefaultSonarLintFileAdapter implements ISonarLintFile {
 
+  private static final String BOM = "\uFEFF";
+
   private final IFile file;
   private final ISonarLintProject project;
 
@@ -58,22 +61,22 @@ public class DefaultSonarLintFileAdapter implements ISonarLintFile {
     return file.getProjectRelativePath().toString();
   }
 
+  /**
+   * When the file is already connected to a text file buffer (usually because it is open in an editor) reuse its document.
+   * Else, to not thrash the text file buffer manager, return a plain document, without partitioners, built from the file content.
+   */
   @Override
   public IDocument getDocument() {
-    var textFileBufferManager = FileBuffers.getTextFileBufferManager();
-    var path = file.getFullPath();
-    try {
-      textFileBufferManager.connect(path, LocationKind.IFILE, new NullProgressMonitor());
-      var textFileBuffer = textFileBufferManager.getTextFileBuffer(path, LocationKind.IFILE);
+    var textFileBuffer = FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+    if (textFileBuffer != null) {
       return textFileBuffer.getDocument();
-    } catch (CoreException e) {
+    }
+    try (var contents = file.getContents(true)) {
+      var content = new String(contents.readAllBytes(), getCharset());
+      // Same as a text file buffer, don't expose the BOM
+      return new Document(content.startsWith(BOM) ? content.substring(1) : content);
+    } catch (CoreException | IOException e) {
       throw new IllegalStateException("Unable to open content of file " + file, e);
-    } finally {
-      try {
-        textFileBufferManager.disconnect(path, LocationKind.IFILE, new NullProgressMonitor());
-      } catch (CoreException e) {
-        // Ignore
-      }
     }
   }
 
@@ -28,9 +28,7 @@ import java.util.Optional;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
-import org.eclipse.core.resources.IResourceVisitor;
 import org.eclipse.core.runtime.Adapters;
-import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.team.core.RepositoryProvider;
 import org.eclipse.team.core.TeamException;
@@ -38,7 +36,6 @@ import org.eclipse.team.core.subscribers.Subscriber;
 import org.eclipse.team.core.synchronize.SyncInfo;
 import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
-import org.sonarlint.eclipse.core.internal.utils.SonarLintUtils;
 import org.sonarlint.eclipse.core.resource.ISonarLintFile;
 import org.sonarlint.eclipse.core.resource.ISonarLintProject;
 
@@ -80,25 +77,7 @@ public class DefaultSonarLintProjectAdapter implements ISonarLintProject {
 
   @Override
   public Collection<ISonarLintFile> files() {
-    var result = new ArrayList<ISonarLintFile>();
-    try {
-      project.accept(new IResourceVisitor() {
-        @Override
-        public boolean visit(IResource resource) throws CoreException {
-          if (!SonarLintUtils.isSonarLintFileCandidate(resource)) {
-            return false;
-          }
-          var sonarLintFile = Adapters.adapt(resource, ISonarLintFile.class);
-          if (sonarLintFile != null) {
-            result.add(sonarLintFile);
-          }
-          return true;
-        }
-      });
-    } catch (CoreException e) {
-      SonarLintLogger.get().error("Error collecting files in project " + project.getName(), e);
-    }
-    return result;
+    return ProjectFilesIndex.get().files(project);
   }
 
   public Collection<ISonarLintFile> getScmChangedFiles(IProgressMonitor monitor) {
@@ -42,6 +42,6 @@ public class MarkerPropertyTester extends PropertyTester {
     if (sonarLintFile == null) {
       return false;
     }
-    return !SonarLintCorePlugin.loadConfig(sonarLintFile.getProject()).isBound();
+    return !SonarLintCorePlugin.loadCachedConfig(sonarLintFile.getProject()).isBound();
   }
 }
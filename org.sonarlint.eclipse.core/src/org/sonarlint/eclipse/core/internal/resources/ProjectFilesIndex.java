@@ -0,0 +1,243 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.resources;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Adapters;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.internal.utils.SonarLintUtils;
+import org.sonarlint.eclipse.core.resource.ISonarLintFile;
+
+/**
+ * Index of the SonarLint files of each project, to avoid walking the whole resource tree and adapting every resource each time
+ * all files of a project are requested.
+ * The index of a project is built on first request, and then maintained incrementally from resource deltas. Added resources are only
+ * adapted when the files are requested again.
+ */
+public class ProjectFilesIndex implements IResourceChangeListener {
+
+  private static final ProjectFilesIndex INSTANCE = new ProjectFilesIndex();
+
+  private final Map<IProject, ProjectEntry> entries = new ConcurrentHashMap<>();
+  private volatile boolean installed;
+
+  public static ProjectFilesIndex get() {
+    return INSTANCE;
+  }
+
+  public void install() {
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+    installed = true;
+  }
+
+  public void uninstall() {
+    installed = false;
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+    entries.clear();
+  }
+
+  public Collection<ISonarLintFile> files(IProject project) {
+    if (!installed) {
+      // Without resource deltas the index can't be kept up to date
+      return new ProjectEntry(project).snapshot();
+    }
+    return entries.computeIfAbsent(project, ProjectEntry::new).snapshot();
+  }
+
+  /**
+   * To be called when something that is not visible in resource deltas may change the result of adapting files of this project
+   */
+  public void invalidate(IProject project) {
+    entries.remove(project);
+  }
+
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent event) {
+    var delta = event.getDelta();
+    if (delta == null) {
+      return;
+    }
+    for (var projectDelta : delta.getAffectedChildren()) {
+      var project = (IProject) projectDelta.getResource();
+      var entry = entries.get(project);
+      if (entry == null) {
+        continue;
+      }
+      if (requiresFullScan(projectDelta)) {
+        entries.remove(project);
+      } else {
+        entry.applyDelta(projectDelta);
+      }
+    }
+  }
+
+  private static boolean requiresFullScan(IResourceDelta projectDelta) {
+    if (projectDelta.getKind() != IResourceDelta.CHANGED
+      || (projectDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION)) != 0) {
+      return true;
+    }
+    // Project level configuration files (.classpath, .settings, ...) may change the result of file adapter participants
+    for (var child : projectDelta.getAffectedChildren()) {
+      if (child.getResource().getName().startsWith(".") && child.getFlags() != IResourceDelta.MARKERS) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static class ProjectEntry {
+    private final IProject project;
+    private final Map<IFile, ISonarLintFile> files = new LinkedHashMap<>();
+    // Resources added or changed since last request, that have to be (re)adapted
+    private final Set<IResource> pending = new LinkedHashSet<>();
+    private boolean scanned;
+    @Nullable
+    private List<ISonarLintFile> snapshot;
+
+    ProjectEntry(IProject project) {
+      this.project = project;
+    }
+
+    synchronized List<ISonarLintFile> snapshot() {
+      if (snapshot == null) {
+        if (!scanned) {
+          scan(project);
+          scanned = true;
+          pending.clear();
+        }
+        for (var resource : pending) {
+          rescan(resource);
+        }
+        pending.clear();
+        snapshot = List.copyOf(files.values());
+      }
+      return snapshot;
+    }
+
+    synchronized void applyDelta(IResourceDelta projectDelta) {
+      try {
+        projectDelta.accept(delta -> {
+          var resource = delta.getResource();
+          switch (delta.getKind()) {
+            case IResourceDelta.ADDED:
+              markPending(resource);
+              // An added folder will be scanned with all its children
+              return resource.getType() != IResource.FOLDER;
+            case IResourceDelta.REMOVED:
+              pending.remove(resource);
+              if (resource instanceof IFile) {
+                remove((IFile) resource);
+              }
+              break;
+            default:
+              if ((delta.getFlags() & IResourceDelta.DERIVED_CHANGED) != 0) {
+                markPending(resource);
+              }
+              break;
+          }
+          return true;
+        });
+      } catch (CoreException e) {
+        SonarLintLogger.get().error("Unable to update files index of project " + project.getName(), e);
+        scanned = false;
+        files.clear();
+        snapshot = null;
+      }
+    }
+
+    private void markPending(IResource resource) {
+      if (resource.getType() == IResource.FILE || resource.getType() == IResource.FOLDER) {
+        pending.add(resource);
+        snapshot = null;
+      }
+    }
+
+    private void remove(IFile file) {
+      if (files.remove(file) != null) {
+        snapshot = null;
+      }
+    }
+
+    private void rescan(IResource resource) {
+      if (resource.getType() == IResource.FILE) {
+        files.remove(resource);
+      } else {
+        // Derived status of a folder applies to all its children
+        var folderPath = resource.getFullPath();
+        files.keySet().removeIf(f -> folderPath.isPrefixOf(f.getFullPath()));
+      }
+      if (!isInDotFolder(resource)) {
+        scan(resource);
+      }
+    }
+
+    /**
+     * A full scan doesn't go into folders like .settings, so don't index their children when they are added
+     */
+    private static boolean isInDotFolder(IResource resource) {
+      var segments = resource.getProjectRelativePath().segments();
+      for (var i = 0; i < segments.length - 1; i++) {
+        if (segments[i].startsWith(".")) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void scan(IResource root) {
+      try {
+        root.accept(resource -> {
+          if (!SonarLintUtils.isSonarLintFileCandidate(resource)) {
+            return false;
+          }
+          if (resource instanceof IFile) {
+            var sonarLintFile = Adapters.adapt(resource, ISonarLintFile.class);
+            if (sonarLintFile != null) {
+              files.put((IFile) resource, sonarLintFile);
+            }
+          }
+          return true;
+        });
+      } catch (CoreException e) {
+        SonarLintLogger.get().error("Error collecting files in project " + project.getName(), e);
+      }
+    }
+  }
+
+}
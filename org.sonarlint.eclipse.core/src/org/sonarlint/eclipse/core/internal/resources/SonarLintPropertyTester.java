@@ -38,13 +38,13 @@ public class SonarLintPropertyTester extends PropertyTester {
     }
 
     if ("bound".equals(property)) {
-      var isBound = SonarLintCorePlugin.loadConfig(project).isBound();
+      var isBound = SonarLintCorePlugin.loadCachedConfig(project).isBound();
       return expectedValue == null
         ? isBound
         : (isBound == ((Boolean) expectedValue).booleanValue());
     }
     if ("autoAnalysisEnabled".equals(property)) {
-      var isAuto = SonarLintCorePlugin.loadConfig(project).isAutoEnabled();
+      var isAuto = SonarLintCorePlugin.loadCachedConfig(project).isAutoEnabled();
       return expectedValue == null
         ? isAuto
         : (isAuto == ((Boolean) expectedValue).booleanValue());
@@ -21,6 +21,7 @@ package org.sonarlint.eclipse.core.internal.telemetry;
 
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -37,7 +38,6 @@ import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.engine.connected.IConnectedEngineFacade;
 import org.sonarlint.eclipse.core.internal.engine.connected.ResolvedBinding;
 import org.sonarlint.eclipse.core.internal.http.SonarLintHttpClientOkHttpImpl;
-import org.sonarlint.eclipse.core.internal.preferences.RuleConfig;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintGlobalConfiguration;
 import org.sonarlint.eclipse.core.internal.resources.ProjectsProviderUtils;
 import org.sonarlint.eclipse.core.internal.utils.BundleUtils;
@@ -152,10 +152,7 @@ public class SonarLintTelemetry {
 
     @Override
     public Set<String> getNonDefaultEnabledRules() {
-      var ruleKeys = SonarLintGlobalConfiguration.readRulesConfig().stream()
-        .filter(RuleConfig::isActive)
-        .map(RuleConfig::getKey)
-        .collect(Collectors.toSet());
+      var ruleKeys = new HashSet<>(SonarLintGlobalConfiguration.getRulesConfig().getIncludedRuleKeys());
       // the set could contain rules enabled by default but with a parameter change
       ruleKeys.removeAll(defaultEnabledRuleKeys());
       return ruleKeys;
@@ -163,10 +160,7 @@ public class SonarLintTelemetry {
 
     @Override
     public Set<String> getDefaultDisabledRules() {
-      return SonarLintGlobalConfiguration.readRulesConfig().stream()
-        .filter(rule -> !rule.isActive())
-        .map(RuleConfig::getKey)
-        .collect(Collectors.toSet());
+      return SonarLintGlobalConfiguration.getRulesConfig().getExcludedRuleKeys();
     }
 
     private static Set<String> defaultEnabledRuleKeys() {
@@ -55,7 +55,7 @@ public class PersistentIssueTrackerCache implements IssueTrackerCache {
 
       var key = eldest.getKey();
       try {
-        SonarLintLogger.get().debug("Persisting issues for " + key);
+        SonarLintLogger.get().debug(() -> "Persisting issues for " + key);
         store.save(key, eldest.getValue());
       } catch (IOException e) {
         throw new IllegalStateException(String.format("Error persisting issues for %s", key), e);
@@ -121,7 +121,7 @@ public class ServerIssueUpdater {
     var filePath = file.getProjectRelativePath();
 
     try {
-      SonarLintLogger.get().debug("Download server issues for " + file.getName());
+      SonarLintLogger.get().debug(() -> "Download server issues for " + file.getName());
       return engineFacade.downloadAllServerIssuesForFile(projectBinding, branchName, filePath, monitor);
     } catch (DownloadException e) {
       SonarLintLogger.get().info(e.getMessage());
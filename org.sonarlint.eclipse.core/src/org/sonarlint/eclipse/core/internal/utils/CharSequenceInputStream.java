@@ -0,0 +1,103 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.utils;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+
+/**
+ * {@link InputStream} encoding a {@link CharSequence} on the fly, using a small buffer, instead of materializing the whole
+ * content as a byte array.
+ */
+public class CharSequenceInputStream extends InputStream {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final CharsetEncoder encoder;
+  private final CharBuffer in;
+  private final ByteBuffer out;
+  private boolean encoded;
+  private boolean flushed;
+
+  public CharSequenceInputStream(CharSequence content, Charset charset) {
+    this.encoder = charset.newEncoder()
+      .onMalformedInput(CodingErrorAction.REPLACE)
+      .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    this.in = CharBuffer.wrap(content);
+    this.out = ByteBuffer.allocate(BUFFER_SIZE);
+    // Start with an empty buffer, ready to be read
+    this.out.flip();
+  }
+
+  @Override
+  public int read() {
+    if (!ensureAvailable()) {
+      return -1;
+    }
+    return out.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    Objects.checkFromIndexSize(off, len, b.length);
+    if (len == 0) {
+      return 0;
+    }
+    if (!ensureAvailable()) {
+      return -1;
+    }
+    var count = Math.min(len, out.remaining());
+    out.get(b, off, count);
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return out.remaining();
+  }
+
+  private boolean ensureAvailable() {
+    while (!out.hasRemaining()) {
+      if (flushed) {
+        return false;
+      }
+      fill();
+    }
+    return true;
+  }
+
+  private void fill() {
+    out.clear();
+    if (!encoded && encoder.encode(in, out, true).isUnderflow()) {
+      // All characters have been consumed
+      encoded = true;
+    }
+    if (encoded && encoder.flush(out).isUnderflow()) {
+      flushed = true;
+    }
+    out.flip();
+  }
+
+}
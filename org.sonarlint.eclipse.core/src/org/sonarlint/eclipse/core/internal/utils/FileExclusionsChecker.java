@@ -44,7 +44,7 @@ public class FileExclusionsChecker {
   private final ClientFileExclusions globalExclusions;
 
   public FileExclusionsChecker(ISonarLintProject project) {
-    var projectConfiguration = SonarLintCorePlugin.loadConfig(project);
+    var projectConfiguration = SonarLintCorePlugin.loadCachedConfig(project);
     var globalExclusionItems = SonarLintGlobalConfiguration.getGlobalExclusions();
     var projectExclusionItems = projectConfiguration.getFileExclusions();
 
@@ -108,7 +108,7 @@ public class FileExclusionsChecker {
 
   private static void logIfNeeded(ISonarLintFile file, boolean log, String exclusionSource) {
     if (log) {
-      SonarLintLogger.get().debug("File '" + file.getName() + "' excluded from analysis due to configured " + exclusionSource + " exclusions");
+      SonarLintLogger.get().debug(() -> "File '" + file.getName() + "' excluded from analysis due to configured " + exclusionSource + " exclusions");
     }
   }
 
@@ -122,7 +122,7 @@ public class FileExclusionsChecker {
   public static boolean isPathAlreadyExcludedInProject(ISonarLintFile file) {
     var project = file.getProject();
     var path = file.getProjectRelativePath();
-    var projectConfiguration = SonarLintCorePlugin.loadConfig(project);
+    var projectConfiguration = SonarLintCorePlugin.loadCachedConfig(project);
     var fileExclusions = projectConfiguration.getFileExclusions();
     return fileExclusions.stream().anyMatch(e -> e.type() == Type.FILE && path.equals(e.item()));
   }
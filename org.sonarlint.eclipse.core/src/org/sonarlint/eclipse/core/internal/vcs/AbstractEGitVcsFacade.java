@@ -40,6 +40,7 @@ abstract class AbstractEGitVcsFacade implements VcsFacade {
   private static final SonarLintLogger LOG = SonarLintLogger.get();
 
   @Override
+  @Nullable
   public String electBestMatchingBranch(ISonarLintProject project, Set<String> serverCandidateNames, String serverMainBranch) {
     return getRepo(project.getResource()).map(repo -> GitUtils.electBestMatchingServerBranchForCurrentHead(repo, serverCandidateNames, serverMainBranch)).orElse(serverMainBranch);
   }
@@ -52,6 +53,28 @@ abstract class AbstractEGitVcsFacade implements VcsFacade {
     return getRepo(project.getResource()).map(this::getHeadRef).orElse(null);
   }
 
+  @Override
+  @Nullable
+  public String getHeadCommitKey(ISonarLintProject project) {
+    return getRepo(project.getResource()).map(AbstractEGitVcsFacade::getHeadCommitKey).orElse(null);
+  }
+
+  @Nullable
+  private static String getHeadCommitKey(Repository repo) {
+    var repoDir = repo.getDirectory();
+    if (repoDir == null) {
+      return null;
+    }
+    try {
+      var head = repo.resolve(Constants.HEAD);
+      // The checked out branch matters too, it is elected as is when it exists on the server
+      return head != null ? (repoDir.getAbsolutePath() + "@" + repo.getFullBranch() + "@" + head.name()) : null;
+    } catch (IOException e) {
+      LOG.debug("Unable to resolve current commit", e);
+      return null;
+    }
+  }
+
   @Nullable
   private String getHeadRef(Repository repo) {
     try {
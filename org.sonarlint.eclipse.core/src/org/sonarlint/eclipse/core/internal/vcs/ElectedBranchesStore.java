@@ -0,0 +1,128 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.core.internal.vcs;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.Nullable;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarsource.sonarlint.shaded.com.google.gson.Gson;
+import org.sonarsource.sonarlint.shaded.com.google.gson.JsonParseException;
+import org.sonarsource.sonarlint.shaded.com.google.gson.reflect.TypeToken;
+
+/**
+ * Server branches elected for a given commit of a repository and a given list of server branches, kept on disk so that the
+ * (costly) election doesn't have to be done again after a restart, or after a synchronization that didn't change the branches.
+ * Only the most recently used elections are kept.
+ */
+class ElectedBranchesStore {
+
+  private static final int MAX_ENTRIES = 1000;
+
+  // Resolved lazily, the workspace might not be ready yet when this class is initialized
+  private final Supplier<Path> fileSupplier;
+  @Nullable
+  private Map<String, String> electedBranchByKey;
+
+  ElectedBranchesStore(Supplier<Path> fileSupplier) {
+    this.fileSupplier = fileSupplier;
+  }
+
+  static String electionKey(String headCommitKey, String serverBranchesHash) {
+    return headCommitKey + "|" + serverBranchesHash;
+  }
+
+  static String serverBranchesHash(Set<String> branchNames, @Nullable String mainBranchName) {
+    var content = new StringBuilder().append(mainBranchName);
+    for (var branchName : new TreeSet<>(branchNames)) {
+      content.append('\n').append(branchName);
+    }
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Nullable
+  synchronized String get(String key) {
+    return entries().get(key);
+  }
+
+  synchronized void put(String key, String electedBranch) {
+    if (!electedBranch.equals(entries().put(key, electedBranch))) {
+      save();
+    }
+  }
+
+  private Map<String, String> entries() {
+    if (electedBranchByKey == null) {
+      electedBranchByKey = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+          return size() > MAX_ENTRIES;
+        }
+      };
+      electedBranchByKey.putAll(load());
+    }
+    return electedBranchByKey;
+  }
+
+  private Map<String, String> load() {
+    var file = fileSupplier.get();
+    if (!Files.exists(file)) {
+      return Map.of();
+    }
+    try {
+      Map<String, String> entries = new Gson().fromJson(Files.readString(file, StandardCharsets.UTF_8), new TypeToken<LinkedHashMap<String, String>>() {
+      }.getType());
+      return entries != null ? entries : Map.of();
+    } catch (IOException | JsonParseException e) {
+      SonarLintLogger.get().debug("Unable to read elected branches", e);
+      return Map.of();
+    }
+  }
+
+  private void save() {
+    var file = fileSupplier.get();
+    try {
+      Files.createDirectories(file.getParent());
+      var tmp = file.resolveSibling(file.getFileName() + ".tmp");
+      // Copy to serialize as a plain map, Gson ignores anonymous classes
+      Files.writeString(tmp, new Gson().toJson(new LinkedHashMap<>(electedBranchByKey)), StandardCharsets.UTF_8);
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      SonarLintLogger.get().debug("Unable to save elected branches", e);
+    }
+  }
+
+}
@@ -30,11 +30,20 @@ public interface VcsFacade {
 
   boolean isIgnored(ISonarLintFile file);
 
+  @Nullable
   String electBestMatchingBranch(ISonarLintProject project, Set<String> serverCandidateNames, String serverMainBranch);
 
   @Nullable
   Object getCurrentCommitRef(ISonarLintProject project);
 
+  /**
+   * @return an identifier of the repository, of the branch and of the commit currently checked out, stable across sessions, or null if unknown
+   */
+  @Nullable
+  default String getHeadCommitKey(ISonarLintProject project) {
+    return null;
+  }
+
   default void addHeadRefsChangeListener(Consumer<List<ISonarLintProject>> listener) {
 
   }
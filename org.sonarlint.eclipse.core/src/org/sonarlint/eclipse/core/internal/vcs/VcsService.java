@@ -20,6 +20,7 @@
 package org.sonarlint.eclipse.core.internal.vcs;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,9 +32,11 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.annotation.Nullable;
 import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
+import org.sonarlint.eclipse.core.internal.StoragePathManager;
 import org.sonarlint.eclipse.core.internal.jobs.StorageSynchronizerJob;
 import org.sonarlint.eclipse.core.internal.utils.BundleUtils;
 import org.sonarlint.eclipse.core.resource.ISonarLintProject;
+import org.sonarsource.sonarlint.core.client.api.connected.ProjectBranches;
 
 import static java.util.stream.Collectors.joining;
 
@@ -45,7 +48,8 @@ public class VcsService {
   public static final boolean IS_EGIT_UI_BUNDLE_AVAILABLE = BundleUtils.isBundleInstalled("org.eclipse.egit.ui");
 
   private static final Map<ISonarLintProject, Object> previousCommitRefCache = new ConcurrentHashMap<>();
-  private static final Map<ISonarLintProject, String> electedServerBranchCache = new ConcurrentHashMap<>();
+  private static final Map<ISonarLintProject, Election> electedServerBranchCache = new ConcurrentHashMap<>();
+  private static final ElectedBranchesStore electedBranchesStore = new ElectedBranchesStore(StoragePathManager::getElectedBranchesFile);
 
   private VcsService() {
   }
@@ -61,20 +65,36 @@ public class VcsService {
     return new NoOpVcsFacade();
   }
 
-  private static String electBestMatchingBranch(VcsFacade facade, ISonarLintProject project) {
+  private static Election electBestMatchingBranch(VcsFacade facade, ISonarLintProject project) {
+    var serverBranches = getServerBranches(project);
+    var serverBranchesHash = ElectedBranchesStore.serverBranchesHash(serverBranches.getBranchNames(), serverBranches.getMainBranchName());
+    var headCommitKey = facade.getHeadCommitKey(project);
+    var electionKey = headCommitKey != null ? ElectedBranchesStore.electionKey(headCommitKey, serverBranchesHash) : null;
+    if (electionKey != null) {
+      var previouslyElected = electedBranchesStore.get(electionKey);
+      if (previouslyElected != null) {
+        LOG.debug("Best matching branch for project " + project.getName() + " is " + previouslyElected + " (already elected for current commit)");
+        return new Election(previouslyElected, serverBranchesHash);
+      }
+    }
     LOG.debug("Elect best matching branch for project " + project.getName() + "...");
+    LOG.debug(() -> "Find best matching branch among: " + serverBranches.getBranchNames().stream().collect(joining(",")));
+    var matched = facade.electBestMatchingBranch(project, serverBranches.getBranchNames(), serverBranches.getMainBranchName());
+    LOG.debug("Best matching branch is " + matched);
+    if (electionKey != null && matched != null) {
+      electedBranchesStore.put(electionKey, matched);
+    }
+    return new Election(matched, serverBranchesHash);
+  }
+
+  private static ProjectBranches getServerBranches(ISonarLintProject project) {
     var bindingOpt = SonarLintCorePlugin.getServersManager().resolveBinding(project);
     if (bindingOpt.isEmpty()) {
       electedServerBranchCache.remove(project);
       previousCommitRefCache.remove(project);
       throw new IllegalStateException("Project " + project.getName() + " is not bound");
     }
-
-    var serverBranches = bindingOpt.get().getEngineFacade().getServerBranches(bindingOpt.get().getProjectBinding().projectKey());
-    LOG.debug("Find best matching branch among: " + serverBranches.getBranchNames().stream().collect(joining(",")));
-    var matched = facade.electBestMatchingBranch(project, serverBranches.getBranchNames(), serverBranches.getMainBranchName());
-    LOG.debug("Best matching branch is " + matched);
-    return matched;
+    return bindingOpt.get().getEngineFacade().getServerBranches(bindingOpt.get().getProjectBinding().projectKey());
   }
 
   private static void saveCurrentCommitRef(ISonarLintProject project, VcsFacade facade) {
@@ -91,17 +111,35 @@ public class VcsService {
     electedServerBranchCache.remove(project);
   }
 
-  public static void clearVcsCache() {
-    previousCommitRefCache.clear();
-    electedServerBranchCache.clear();
+  /**
+   * To be called after the storage of the given projects has been synchronized. Only forget the branches elected for projects
+   * whose list of server branches has changed.
+   */
+  public static void serverBranchesUpdated(Collection<ISonarLintProject> projects) {
+    for (var project : projects) {
+      var election = electedServerBranchCache.get(project);
+      if (election == null) {
+        continue;
+      }
+      try {
+        var serverBranches = getServerBranches(project);
+        if (!election.serverBranchesHash.equals(ElectedBranchesStore.serverBranchesHash(serverBranches.getBranchNames(), serverBranches.getMainBranchName()))) {
+          LOG.debug("Server branches of project " + project.getName() + " have changed, evict cached branch...");
+          electedServerBranchCache.remove(project);
+        }
+      } catch (IllegalStateException e) {
+        // Project is no longer bound
+      }
+    }
   }
 
+  @Nullable
   public static String getServerBranch(ISonarLintProject project) {
     return electedServerBranchCache.computeIfAbsent(project, p -> {
       var facade = getFacade();
       saveCurrentCommitRef(project, facade);
       return electBestMatchingBranch(facade, p);
-    });
+    }).branchName;
   }
 
   public static void installBranchChangeListener() {
@@ -131,10 +169,10 @@ public class VcsService {
         Object newCommitRef = facade.getCurrentCommitRef(project);
         if (shouldRecomputeMatchingBranch(project, newCommitRef)) {
           saveCurrentCommitRef(project, facade);
-          var previousElectedBranch = electedServerBranchCache.get(project);
-          var newElectedBranch = electBestMatchingBranch(facade, project);
-          if (!newElectedBranch.equals(previousElectedBranch)) {
-            electedServerBranchCache.put(project, newElectedBranch);
+          var previousElection = electedServerBranchCache.get(project);
+          var newElection = electBestMatchingBranch(facade, project);
+          electedServerBranchCache.put(project, newElection);
+          if (previousElection == null || !Objects.equals(newElection.branchName, previousElection.branchName)) {
             projectsToSync.add(project);
           }
         }
@@ -156,4 +194,16 @@ public class VcsService {
 
   }
 
+  private static class Election {
+    @Nullable
+    private final String branchName;
+    // To know if the election is still valid after a synchronization
+    private final String serverBranchesHash;
+
+    private Election(@Nullable String branchName, String serverBranchesHash) {
+      this.branchName = branchName;
+      this.serverBranchesHash = serverBranchesHash;
+    }
+  }
+
 }
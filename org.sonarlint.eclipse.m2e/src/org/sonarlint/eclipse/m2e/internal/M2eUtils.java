@@ -20,11 +20,6 @@
 package org.sonarlint.eclipse.m2e.internal;
 
 import org.eclipse.core.resources.IFile;
-import org.eclipse.core.resources.ResourcesPlugin;
-import org.eclipse.core.runtime.CoreException;
-import org.eclipse.m2e.core.MavenPlugin;
-import org.eclipse.m2e.core.internal.IMavenConstants;
-import org.sonarlint.eclipse.core.SonarLintLogger;
 
 public class M2eUtils {
 
@@ -36,32 +31,20 @@ public class M2eUtils {
    * When it is the case we want to keep the most specific one.
    */
   public static boolean isInNestedModule(IFile file) {
-    var project = file.getProject();
-    try {
-      if (project.hasNature(IMavenConstants.NATURE_ID)) {
-        var projectManager = MavenPlugin.getMavenProjectRegistry();
-
-        var projectFacade = projectManager.create(project, null);
-        if (projectFacade != null && "pom".equals(projectFacade.getPackaging())) {
-          return !toSpecificFile(file).equals(file);
-        }
-      }
-    } catch (CoreException ex) {
-      SonarLintLogger.get().error(ex.getMessage(), ex);
+    var nestedModuleRoots = MavenNestedModules.get().getNestedModuleRoots(file.getProject());
+    if (nestedModuleRoots.isEmpty()) {
+      return false;
     }
-    return false;
-  }
-
-  private static IFile toSpecificFile(IFile file) {
-    IFile finalFile = file;
-    var rawLocation = file.getRawLocation();
-    if (rawLocation != null) {
-      var moreSpecific = ResourcesPlugin.getWorkspace().getRoot().getFileForLocation(rawLocation);
-      if (moreSpecific != null) {
-        finalFile = moreSpecific;
+    var location = file.getLocation();
+    if (location == null) {
+      return false;
+    }
+    for (var nestedModuleRoot : nestedModuleRoots) {
+      if (nestedModuleRoot.isPrefixOf(location)) {
+        return true;
       }
     }
-    return finalFile;
+    return false;
   }
 
 }
@@ -30,7 +30,7 @@ public class MavenModuleFilter implements ISonarLintFileAdapterParticipant {
     this.isM2ePresent = isM2ePresent();
   }
 
-  private static boolean isM2ePresent() {
+  static boolean isM2ePresent() {
     try {
       Class.forName("org.eclipse.m2e.core.MavenPlugin");
       return true;
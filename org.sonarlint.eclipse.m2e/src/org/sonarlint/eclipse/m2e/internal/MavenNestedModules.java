@@ -0,0 +1,134 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.m2e.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.m2e.core.MavenPlugin;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
+import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.internal.resources.ProjectFilesIndex;
+
+/**
+ * Cache of the locations of nested modules of each pom packaged project, so that checking if a file belongs to a nested module
+ * is a simple prefix lookup instead of querying the m2e registry and the workspace for every file.
+ * The cache is invalidated when m2e reports project changes, or when projects are added, removed, opened or closed.
+ */
+class MavenNestedModules implements IMavenProjectChangedListener, IResourceChangeListener {
+
+  private static final MavenNestedModules INSTANCE = new MavenNestedModules();
+
+  // Empty list for projects that are not pom packaged
+  private final Map<IProject, List<IPath>> nestedModuleRootsPerProject = new ConcurrentHashMap<>();
+  private volatile boolean installed;
+
+  private MavenNestedModules() {
+  }
+
+  static MavenNestedModules get() {
+    return INSTANCE;
+  }
+
+  void install() {
+    MavenPlugin.getMavenProjectRegistry().addMavenProjectChangedListener(this);
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+    installed = true;
+  }
+
+  void uninstall() {
+    installed = false;
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+    MavenPlugin.getMavenProjectRegistry().removeMavenProjectChangedListener(this);
+    nestedModuleRootsPerProject.clear();
+  }
+
+  List<IPath> getNestedModuleRoots(IProject project) {
+    if (!installed) {
+      // Without change notifications the cache can't be kept up to date
+      return computeNestedModuleRoots(project);
+    }
+    return nestedModuleRootsPerProject.computeIfAbsent(project, MavenNestedModules::computeNestedModuleRoots);
+  }
+
+  private static List<IPath> computeNestedModuleRoots(IProject project) {
+    var result = new ArrayList<IPath>();
+    try {
+      var projectLocation = project.getLocation();
+      if (projectLocation == null || !project.hasNature(IMavenConstants.NATURE_ID)) {
+        return result;
+      }
+      var projectFacade = MavenPlugin.getMavenProjectRegistry().create(project, null);
+      if (projectFacade == null || !"pom".equals(projectFacade.getPackaging())) {
+        return result;
+      }
+      for (var other : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+        var otherLocation = other.getLocation();
+        if (!other.equals(project) && otherLocation != null && !otherLocation.equals(projectLocation) && projectLocation.isPrefixOf(otherLocation)) {
+          result.add(otherLocation);
+        }
+      }
+    } catch (CoreException ex) {
+      SonarLintLogger.get().error(ex.getMessage(), ex);
+    }
+    return result;
+  }
+
+  @Override
+  public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
+    invalidate();
+  }
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent event) {
+    var delta = event.getDelta();
+    if (delta == null) {
+      return;
+    }
+    for (var projectDelta : delta.getAffectedChildren(IResourceDelta.ADDED | IResourceDelta.REMOVED | IResourceDelta.CHANGED)) {
+      if (projectDelta.getResource().getType() == IResource.PROJECT
+        && (projectDelta.getKind() != IResourceDelta.CHANGED || (projectDelta.getFlags() & IResourceDelta.OPEN) != 0)) {
+        invalidate();
+        return;
+      }
+    }
+  }
+
+  private void invalidate() {
+    if (!nestedModuleRootsPerProject.isEmpty()) {
+      nestedModuleRootsPerProject.clear();
+      // Files that were excluded may now be included, and the opposite
+      ProjectFilesIndex.get().invalidateAll();
+    }
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.m2e.internal;
+
+import org.eclipse.core.runtime.Plugin;
+import org.osgi.framework.BundleContext;
+
+public class SonarLintM2ePlugin extends Plugin {
+
+  @Override
+  public void start(BundleContext context) throws Exception {
+    super.start(context);
+    if (MavenModuleFilter.isM2ePresent()) {
+      MavenNestedModules.get().install();
+    }
+  }
+
+  @Override
+  public void stop(BundleContext context) throws Exception {
+    if (MavenModuleFilter.isM2ePresent()) {
+      MavenNestedModules.get().uninstall();
+    }
+    super.stop(context);
+  }
+
+}
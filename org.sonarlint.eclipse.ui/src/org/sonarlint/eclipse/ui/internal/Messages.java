@@ -38,6 +38,8 @@ public final class Messages extends NLS {
   public static String SonarPreferencePage_label_marker_severity;
   public static String SonarPreferencePage_label_extra_args;
   public static String SonarPreferencePage_label_test_file_regexps;
+  public static String SonarPreferencePage_label_engines_warm_up;
+  public static String SonarPreferencePage_label_engines_idle_timeout;
   public static String SonarProjectPropertyBlock_label_override_workspace_settings;
 
   public static String SonarConsoleRemoveAction_tooltip;
@@ -53,7 +53,7 @@ public class OpenEditorAnalysisTrigger implements IPartListener2 {
 
   private static void scheduleUpdate(FileWithDocument fileWithDoc) {
     var file = fileWithDoc.getFile();
-    if (!SonarLintCorePlugin.loadConfig(file.getProject()).isAutoEnabled()) {
+    if (!SonarLintCorePlugin.loadCachedConfig(file.getProject()).isAutoEnabled()) {
       return;
     }
     var request = new AnalyzeProjectRequest(file.getProject(), List.of(fileWithDoc), TriggerType.EDITOR_OPEN);
@@ -124,7 +124,7 @@ public class SonarLintPostBuildListener implements IResourceChangeListener {
 
     var sonarLintProject = Adapters.adapt(delta.getResource(), ISonarLintProject.class);
     if (sonarLintProject != null) {
-      return SonarLintCorePlugin.loadConfig(sonarLintProject).isAutoEnabled();
+      return SonarLintCorePlugin.loadCachedConfig(sonarLintProject).isAutoEnabled();
     }
 
     var sonarLintFile = Adapters.adapt(delta.getResource(), ISonarLintFile.class);
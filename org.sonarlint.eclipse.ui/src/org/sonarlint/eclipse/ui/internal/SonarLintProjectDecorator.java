@@ -39,11 +39,11 @@ public class SonarLintProjectDecorator implements ILightweightLabelDecorator {
   public void decorate(Object element, IDecoration decoration) {
     var project = Adapters.adapt(element, ISonarLintProject.class);
     if (project != null && project.isOpen()) {
-      var config = SonarLintCorePlugin.loadConfig(project);
+      var config = SonarLintCorePlugin.loadCachedConfig(project);
       if (!config.isAutoEnabled()) {
         return;
       }
-      SonarLintCorePlugin.getServersManager().resolveBinding(project)
+      SonarLintCorePlugin.getServersManager().resolveBinding(project, config)
         .ifPresent(s -> decoration.addOverlay(SonarLintImages.SQ_LABEL_DECORATOR));
     }
   }
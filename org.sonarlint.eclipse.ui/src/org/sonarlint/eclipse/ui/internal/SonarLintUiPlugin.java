@@ -20,8 +20,6 @@
 package org.sonarlint.eclipse.ui.internal;
 
 import java.time.Duration;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -41,7 +39,6 @@ import org.osgi.framework.BundleContext;
 import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.SonarLintNotifications;
 import org.sonarlint.eclipse.core.SonarLintNotifications.Notification;
-import org.sonarlint.eclipse.core.internal.LogListener;
 import org.sonarlint.eclipse.core.internal.NotificationListener;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.TriggerType;
@@ -54,11 +51,12 @@ import org.sonarlint.eclipse.core.resource.ISonarLintProject;
 import org.sonarlint.eclipse.ui.internal.backend.SonarLintEclipseClient;
 import org.sonarlint.eclipse.ui.internal.binding.actions.AnalysisJobsScheduler;
 import org.sonarlint.eclipse.ui.internal.console.SonarLintConsole;
+import org.sonarlint.eclipse.ui.internal.console.SonarLintConsoleLogger;
 import org.sonarlint.eclipse.ui.internal.extension.SonarLintUiExtensionTracker;
 import org.sonarlint.eclipse.ui.internal.flowlocations.SonarLintFlowLocationsService;
+import org.sonarlint.eclipse.ui.internal.job.EnginesWarmUpJob;
 import org.sonarlint.eclipse.ui.internal.job.PeriodicStoragesSynchronizerJob;
 import org.sonarlint.eclipse.ui.internal.popup.GenericNotificationPopup;
-import org.sonarlint.eclipse.ui.internal.popup.MissingNodePopup;
 import org.sonarlint.eclipse.ui.internal.popup.TaintVulnerabilityAvailablePopup;
 
 public class SonarLintUiPlugin extends AbstractUIPlugin {
@@ -85,60 +83,6 @@ public class SonarLintUiPlugin extends AbstractUIPlugin {
     plugin = this;
   }
 
-  private class SonarLintConsoleLogger implements LogListener {
-
-    /**
-     * We need to process logs asynchronously to not slow down the source of logs, and not lock the UI. Still we need to preserve log
-     * ordering. So we don't use asyncExec, but instead use a single thread executor service + syncExec
-     * See https://bugs.eclipse.org/bugs/show_bug.cgi?id=421303
-     */
-    private final ExecutorService logConsumer = Executors.newSingleThreadExecutor(SonarLintUtils.threadFactory("sonarlint-log-consummer", true));
-
-    @Override
-    public void info(String msg, boolean fromAnalyzer) {
-      if (PlatformUI.isWorkbenchRunning()) {
-        doAsyncInUiThread(() -> getSonarConsole().info(msg, fromAnalyzer));
-      }
-    }
-
-    @Override
-    public void error(String msg, boolean fromAnalyzer) {
-      if (PlatformUI.isWorkbenchRunning()) {
-        doAsyncInUiThread(() -> {
-          if (isNodeCommandException(msg)) {
-            getSonarConsole().info(msg, false);
-            var popup = new MissingNodePopup();
-            popup.setFadingEnabled(false);
-            popup.setDelayClose(0L);
-            popup.open();
-          } else {
-            getSonarConsole().error(msg, fromAnalyzer);
-          }
-        });
-      }
-    }
-
-    private boolean isNodeCommandException(String msg) {
-      return msg.contains("NodeCommandException");
-    }
-
-    @Override
-    public void debug(String msg, boolean fromAnalyzer) {
-      if (PlatformUI.isWorkbenchRunning()) {
-        doAsyncInUiThread(() -> getSonarConsole().debug(msg, fromAnalyzer));
-      }
-    }
-
-    void doAsyncInUiThread(Runnable task) {
-      logConsumer.submit(() -> Display.getDefault().syncExec(task));
-    }
-
-    public void shutdown() {
-      logConsumer.shutdown();
-    }
-
-  }
-
   private static class PopupNotification implements NotificationListener {
 
     @Override
@@ -154,7 +98,7 @@ public class SonarLintUiPlugin extends AbstractUIPlugin {
   public void start(final BundleContext context) throws Exception {
     super.start(context);
 
-    logListener = new SonarLintConsoleLogger();
+    logListener = new SonarLintConsoleLogger(getPreferenceStore());
     SonarLintLogger.get().addLogListener(logListener);
 
     addPostBuildListener();
@@ -257,6 +201,10 @@ public class SonarLintUiPlugin extends AbstractUIPlugin {
 
       SonarLintBackendService.get().init(new SonarLintEclipseClient());
 
+      if (SonarLintGlobalConfiguration.isEnginesWarmUpEnabled()) {
+        EnginesWarmUpJob.scheduleForOpenProjects();
+      }
+
       // Schedule auto-sync
       new PeriodicStoragesSynchronizerJob().schedule(Duration.ofSeconds(1).toMillis());
 
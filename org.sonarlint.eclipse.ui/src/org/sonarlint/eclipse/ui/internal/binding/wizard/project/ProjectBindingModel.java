@@ -23,10 +23,10 @@ import java.util.ArrayList;
 import java.util.List;
 import org.eclipse.jdt.annotation.Nullable;
 import org.sonarlint.eclipse.core.internal.engine.connected.ConnectedEngineFacade;
+import org.sonarlint.eclipse.core.internal.engine.connected.RemoteSonarProject;
 import org.sonarlint.eclipse.core.resource.ISonarLintProject;
 import org.sonarlint.eclipse.ui.internal.util.wizard.ModelObject;
 import org.sonarsource.sonarlint.core.client.api.util.TextSearchIndex;
-import org.sonarsource.sonarlint.core.serverapi.component.ServerProject;
 
 public class ProjectBindingModel extends ModelObject {
 
@@ -38,7 +38,8 @@ public class ProjectBindingModel extends ModelObject {
   private ConnectedEngineFacade server;
   private String remoteProjectKey;
   private boolean skipServerSelection;
-  private TextSearchIndex<ServerProject> projectIndex;
+  // Can be replaced from a background job when the project list is refreshed
+  private volatile TextSearchIndex<RemoteSonarProject> projectIndex;
 
   public void setProjects(List<ISonarLintProject> eclipseProjects) {
     this.eclipseProjects = eclipseProjects;
@@ -84,11 +85,11 @@ public class ProjectBindingModel extends ModelObject {
   }
 
   @Nullable
-  public TextSearchIndex<ServerProject> getProjectIndex() {
+  public TextSearchIndex<RemoteSonarProject> getProjectIndex() {
     return projectIndex;
   }
 
-  public void setProjectIndex(TextSearchIndex<ServerProject> projectIndex) {
+  public void setProjectIndex(TextSearchIndex<RemoteSonarProject> projectIndex) {
     this.projectIndex = projectIndex;
 
   }
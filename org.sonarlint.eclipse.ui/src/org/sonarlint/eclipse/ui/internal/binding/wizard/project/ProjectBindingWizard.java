@@ -27,6 +27,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jface.dialogs.IMessageProvider;
 import org.eclipse.jface.dialogs.IPageChangedListener;
@@ -44,13 +47,13 @@ import org.eclipse.ui.IWorkbench;
 import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.engine.connected.ConnectedEngineFacade;
+import org.sonarlint.eclipse.core.internal.engine.connected.RemoteSonarProject;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfiguration;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfiguration.EclipseProjectBinding;
 import org.sonarlint.eclipse.core.resource.ISonarLintProject;
 import org.sonarlint.eclipse.ui.internal.SonarLintUiPlugin;
 import org.sonarlint.eclipse.ui.internal.binding.wizard.connection.ServerConnectionWizard;
 import org.sonarlint.eclipse.ui.internal.util.wizard.SonarLintWizardDialog;
-import org.sonarsource.sonarlint.core.serverapi.component.ServerProject;
 
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toCollection;
@@ -202,7 +205,7 @@ public class ProjectBindingWizard extends Wizard implements INewWizard, IPageCha
       // Give up, inconsistent model state
       return;
     }
-    ServerProject bestCandidate = null;
+    RemoteSonarProject bestCandidate = null;
     for (var project : model.getEclipseProjects()) {
       var results = index.search(project.getName());
       if (results.isEmpty()) {
@@ -210,7 +213,7 @@ public class ProjectBindingWizard extends Wizard implements INewWizard, IPageCha
       }
       var entries = new ArrayList<>(results.entrySet());
       entries.sort(
-        Comparator.comparing(Map.Entry<ServerProject, Double>::getValue).reversed()
+        Comparator.comparing(Map.Entry<RemoteSonarProject, Double>::getValue).reversed()
           .thenComparing(Comparator.comparing(e -> e.getKey().getName(), String.CASE_INSENSITIVE_ORDER)));
       if (bestCandidate == null) {
         bestCandidate = entries.get(0).getKey();
@@ -220,7 +223,7 @@ public class ProjectBindingWizard extends Wizard implements INewWizard, IPageCha
       }
     }
     if (bestCandidate != null) {
-      model.setRemoteProjectKey(bestCandidate.getKey());
+      model.setRemoteProjectKey(bestCandidate.getProjectKey());
     }
 
   }
@@ -231,6 +234,12 @@ public class ProjectBindingWizard extends Wizard implements INewWizard, IPageCha
       return false;
     }
     currentPage.setMessage(null);
+    if (server.hasProjectList()) {
+      // Propose the list known from a previous session right away, it is very likely up to date
+      model.setProjectIndex(server.computeProjectIndex());
+      refreshProjectListInBackground(server);
+      return true;
+    }
     try {
       getContainer().run(true, true, new IRunnableWithProgress() {
 
@@ -254,4 +263,23 @@ public class ProjectBindingWizard extends Wizard implements INewWizard, IPageCha
     }
     return true;
   }
+
+  private void refreshProjectListInBackground(ConnectedEngineFacade server) {
+    var job = new Job("Refresh project list of connection '" + server.getId() + "'") {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        try {
+          server.updateProjectList(monitor);
+          if (model.getServer() == server) {
+            model.setProjectIndex(server.computeProjectIndex());
+          }
+        } catch (Exception e) {
+          SonarLintLogger.get().debug("Unable to refresh project list", e);
+        }
+        return Status.OK_STATUS;
+      }
+    };
+    job.setSystem(true);
+    job.schedule();
+  }
 }
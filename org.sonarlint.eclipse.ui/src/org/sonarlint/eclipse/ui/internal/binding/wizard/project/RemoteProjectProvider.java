@@ -27,7 +27,7 @@ import org.eclipse.jface.dialogs.IMessageProvider;
 import org.eclipse.jface.fieldassist.IContentProposal;
 import org.eclipse.jface.fieldassist.IContentProposalProvider;
 import org.eclipse.jface.wizard.WizardPage;
-import org.sonarsource.sonarlint.core.serverapi.component.ServerProject;
+import org.sonarlint.eclipse.core.internal.engine.connected.RemoteSonarProject;
 
 public class RemoteProjectProvider implements IContentProposalProvider {
 
@@ -43,7 +43,7 @@ public class RemoteProjectProvider implements IContentProposalProvider {
   public IContentProposal[] getProposals(String contents, int position) {
     var list = new ArrayList<IContentProposal>();
     var projectIndex = model.getProjectIndex();
-    Map<ServerProject, Double> filtered = projectIndex != null ? projectIndex.search(contents) : Collections.emptyMap();
+    Map<RemoteSonarProject, Double> filtered = projectIndex != null ? projectIndex.search(contents) : Collections.emptyMap();
     if (filtered.isEmpty()) {
       parentPage.setMessage("No results", IMessageProvider.INFORMATION);
     } else {
@@ -51,7 +51,7 @@ public class RemoteProjectProvider implements IContentProposalProvider {
     }
     var entries = new ArrayList<>(filtered.entrySet());
     entries.sort(
-      Comparator.comparing(Map.Entry<ServerProject, Double>::getValue).reversed()
+      Comparator.comparing(Map.Entry<RemoteSonarProject, Double>::getValue).reversed()
         .thenComparing(Comparator.comparing(e -> e.getKey().getName(), String.CASE_INSENSITIVE_ORDER)));
     for (var entry : entries) {
       list.add(new ProjectContentProposal(entry.getKey()));
@@ -61,20 +61,20 @@ public class RemoteProjectProvider implements IContentProposalProvider {
 
   public static class ProjectContentProposal implements IContentProposal {
 
-    private final ServerProject remoteProject;
+    private final RemoteSonarProject remoteProject;
 
-    public ProjectContentProposal(ServerProject remoteProject) {
+    public ProjectContentProposal(RemoteSonarProject remoteProject) {
       this.remoteProject = remoteProject;
     }
 
     @Override
     public String getContent() {
-      return remoteProject.getKey();
+      return remoteProject.getProjectKey();
     }
 
     @Override
     public int getCursorPosition() {
-      return remoteProject.getKey().length();
+      return remoteProject.getProjectKey().length();
     }
 
     @Override
@@ -82,7 +82,7 @@ public class RemoteProjectProvider implements IContentProposalProvider {
       return remoteProject.getName();
     }
 
-    public ServerProject getRemoteProject() {
+    public RemoteSonarProject getRemoteProject() {
       return remoteProject;
     }
 
@@ -90,7 +90,7 @@ public class RemoteProjectProvider implements IContentProposalProvider {
     public String getDescription() {
       return new StringBuilder()
         .append("Name: ").append(remoteProject.getName()).append("\n")
-        .append("Key: ").append(remoteProject.getKey()).append("\n")
+        .append("Key: ").append(remoteProject.getProjectKey()).append("\n")
         .toString();
     }
 
@@ -23,11 +23,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Stream;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.ITextViewer;
@@ -53,12 +57,22 @@ import org.sonarlint.eclipse.ui.internal.util.LocationsUtils;
 
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 
 public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
   implements SonarLintMarkerSelectionListener, SonarLintFlowSelectionListener, SonarLintFlowLocationSelectionListener {
 
+  // The same selection is checked by the providers of all open editors, so the resources holding its locations are only computed once.
+  // Markers are checked through their decoded flows, that are replaced when the flows of the marker change.
+  @Nullable
+  private static Object lastCheckedSelection;
+  private static Set<IResource> lastCheckedSelectionResources = Set.of();
+
   private boolean hasMinings = false;
 
+  @Nullable
+  private volatile CachedLocations cachedLocations;
+
   private final IPartListener2 partListener;
 
   private ITextViewer viewer;
@@ -131,7 +145,7 @@ public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
 
   @Override
   public void markerSelected(Optional<IMarker> marker) {
-    forceRefreshCodeMiningsIfNecessary(marker, m -> MarkerUtils.getIssueFlows(m).allLocationsAsStream());
+    forceRefreshCodeMiningsIfNecessary(marker.map(MarkerUtils::getIssueFlows), MarkerFlows::allLocationsAsStream);
   }
 
   @Override
@@ -145,18 +159,20 @@ public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
   }
 
   private <G> void forceRefreshCodeMiningsIfNecessary(Optional<G> selected, Function<G, Stream<MarkerFlowLocation>> flowLocationExtractor) {
+    if (selected.isEmpty()) {
+      clearLastCheckedSelection();
+    }
     // Don't force refresh if uncecessary
     var shouldRefresh = false;
     if (hasMinings) {
       // Always refresh if it previously returned some minings, to clear/update them
       shouldRefresh = true;
     }
-    if (selected.isPresent()) {
+    if (!shouldRefresh && selected.isPresent()) {
       // Only refresh if at least one marker flow location is on the same file than this editor
-      var allFlowLocations = flowLocationExtractor.apply(selected.get());
       var textEditor = super.getAdapter(ITextEditor.class);
       var editorInput = textEditor.getEditorInput().getAdapter(IFileEditorInput.class);
-      if (editorInput != null && LocationsUtils.hasAtLeastOneLocationOnTheSameResourceThanEditor(allFlowLocations, editorInput)) {
+      if (editorInput != null && getResourcesHoldingLocations(selected.get(), flowLocationExtractor).contains(editorInput.getFile())) {
         shouldRefresh = true;
       }
     }
@@ -165,6 +181,23 @@ public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
     }
   }
 
+  private static synchronized void clearLastCheckedSelection() {
+    lastCheckedSelection = null;
+    lastCheckedSelectionResources = Set.of();
+  }
+
+  private static synchronized <G> Set<IResource> getResourcesHoldingLocations(G selected, Function<G, Stream<MarkerFlowLocation>> flowLocationExtractor) {
+    if (selected != lastCheckedSelection) {
+      lastCheckedSelectionResources = flowLocationExtractor.apply(selected)
+        .map(MarkerFlowLocation::getMarker)
+        .filter(m -> m != null && m.exists())
+        .map(IMarker::getResource)
+        .collect(toSet());
+      lastCheckedSelection = selected;
+    }
+    return lastCheckedSelectionResources;
+  }
+
   @Override
   public CompletableFuture<List<? extends ICodeMining>> provideCodeMinings(ITextViewer viewer, IProgressMonitor monitor) {
     // Cache the viewer for later reuse, because on Eclipse Photon, this is not possible to adapt ITextEditor to ITextViewer
@@ -179,7 +212,7 @@ public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
     var textEditor = super.getAdapter(ITextEditor.class);
     var editorInput = textEditor.getEditorInput().getAdapter(IFileEditorInput.class);
     MarkerFlows flowsMarkers = MarkerUtils.getIssueFlows(markerToUse);
-    if (flowsMarkers.isEmpty()) {
+    if (editorInput == null || flowsMarkers.isEmpty()) {
       return CompletableFuture.completedFuture(emptyList());
     }
     var isSecondaryLocation = flowsMarkers.isSecondaryLocations();
@@ -188,19 +221,18 @@ public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
       return CompletableFuture.completedFuture(emptyList());
     }
 
+    var selectedFlow = isSecondaryLocation ? null : lastSelectedFlow.get();
+    var cached = cachedLocations;
+    if (cached == null || cached.flows != flowsMarkers || cached.flow != selectedFlow) {
+      cached = new CachedLocations(flowsMarkers, selectedFlow, editorInput.getFile());
+      cachedLocations = cached;
+    }
+    var locations = cached;
+
     return CompletableFuture.supplyAsync(() -> {
       monitor.isCanceled();
 
       var doc = textEditor.getDocumentProvider().getDocument(editorInput);
-      List<MarkerFlowLocation> locations;
-      if (isSecondaryLocation) {
-        // Flatten all locations
-        locations = flowsMarkers.allLocationsAsStream().collect(toList());
-      } else if (lastSelectedFlow.isPresent()) {
-        locations = lastSelectedFlow.get().getLocations();
-      } else {
-        locations = emptyList();
-      }
       var minings = createMiningsForLocations(textEditor, locations, doc);
       hasMinings = !minings.isEmpty();
       monitor.isCanceled();
@@ -208,22 +240,19 @@ public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
     });
   }
 
-  private List<ICodeMining> createMiningsForLocations(ITextEditor textEditor, List<MarkerFlowLocation> locations, IDocument doc) {
-    var number = 1;
+  private List<ICodeMining> createMiningsForLocations(ITextEditor textEditor, CachedLocations cached, IDocument doc) {
     var result = new ArrayList<ICodeMining>();
-    for (var location : locations) {
+    var positions = LocationsUtils.getMarkerPositions(cached.markers, textEditor);
+    var selectedLocation = SonarLintUiPlugin.getSonarlintMarkerSelectionService().getLastSelectedFlowLocation().orElse(null);
+    for (var i = 0; i < cached.locations.size(); i++) {
+      var location = cached.locations.get(i);
+      var position = positions.get(cached.markers.get(i));
+      if (position == null || location.isDeleted()) {
+        continue;
+      }
       try {
-        var marker = location.getMarker();
-        if (marker != null && !location.isDeleted()) {
-          var position = LocationsUtils.getMarkerPosition(marker, textEditor);
-          if (position != null && !position.isDeleted()) {
-            result.add(new SonarLintFlowMessageCodeMining(location, doc, position, this));
-            result.add(
-              new SonarLintFlowLocationNumberCodeMining(location, position, this, number,
-                location.equals(SonarLintUiPlugin.getSonarlintMarkerSelectionService().getLastSelectedFlowLocation().orElse(null))));
-          }
-        }
-        number++;
+        result.add(new SonarLintFlowMessageCodeMining(location, doc, position, this));
+        result.add(new SonarLintFlowLocationNumberCodeMining(location, position, this, cached.numbers.get(i), location.equals(selectedLocation)));
       } catch (BadLocationException e) {
         SonarLintLogger.get().error("Unable to create code mining", e);
       }
@@ -231,6 +260,36 @@ public class SonarLintCodeMiningProvider extends AbstractCodeMiningProvider
     return result;
   }
 
+  /**
+   * Locations of the selected flow (or all secondary locations) that are in the file of this editor, with their number in the flow.
+   * Kept as long as the selection doesn't change, so that only positions have to be looked up again on refresh.
+   */
+  private static class CachedLocations {
+    private final MarkerFlows flows;
+    @Nullable
+    private final MarkerFlow flow;
+    private final List<MarkerFlowLocation> locations = new ArrayList<>();
+    private final List<IMarker> markers = new ArrayList<>();
+    private final List<Integer> numbers = new ArrayList<>();
+
+    private CachedLocations(MarkerFlows flows, @Nullable MarkerFlow flow, IFile file) {
+      this.flows = flows;
+      this.flow = flow;
+      // Flatten all locations for secondary locations
+      var allLocations = flow != null ? flow.getLocations() : flows.allLocationsAsStream().collect(toList());
+      var number = 1;
+      for (var location : allLocations) {
+        var marker = location.getMarker();
+        if (marker != null && file.equals(marker.getResource())) {
+          locations.add(location);
+          markers.add(marker);
+          numbers.add(number);
+        }
+        number++;
+      }
+    }
+  }
+
   private void forceRefreshCodeMinings() {
     var textEditor = super.getAdapter(ITextEditor.class);
     if (viewer == null) {
@@ -0,0 +1,218 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.ui.internal.console;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.PlatformUI;
+import org.sonarlint.eclipse.core.internal.LogListener;
+import org.sonarlint.eclipse.core.internal.utils.SonarLintUtils;
+import org.sonarlint.eclipse.ui.internal.SonarLintUiPlugin;
+import org.sonarlint.eclipse.ui.internal.popup.MissingNodePopup;
+
+/**
+ * Writes logs to the SonarLint console without slowing down the source of logs, nor flooding the UI thread.
+ * Lines are queued in a bounded buffer, that is drained at most once per frame with a single asyncExec, preserving ordering.
+ * When the buffer is full, new lines are dropped and only counted. Lines that the console would not display anyway are discarded
+ * before being queued.
+ * See https://bugs.eclipse.org/bugs/show_bug.cgi?id=421303
+ */
+public class SonarLintConsoleLogger implements LogListener {
+
+  private static final int MAX_PENDING_LINES = 10_000;
+  private static final long FRAME_MILLIS = 50;
+
+  enum Level {
+    INFO, ERROR, DEBUG
+  }
+
+  static class Line {
+    final Level level;
+    final String msg;
+    final boolean fromAnalyzer;
+    // Opens the missing Node.js popup when written
+    final boolean missingNode;
+
+    private Line(Level level, String msg, boolean fromAnalyzer, boolean missingNode) {
+      this.level = level;
+      this.msg = msg;
+      this.fromAnalyzer = fromAnalyzer;
+      this.missingNode = missingNode;
+    }
+  }
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(SonarLintUtils.threadFactory("sonarlint-log-consummer", true));
+  private final ArrayDeque<Line> pendingLines = new ArrayDeque<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final IPreferenceStore preferenceStore;
+  private final IPropertyChangeListener preferenceListener = event -> updateFilters();
+  private long droppedLines;
+  private volatile boolean verbose;
+  private volatile boolean analyzerOutput;
+
+  public SonarLintConsoleLogger(IPreferenceStore preferenceStore) {
+    this.preferenceStore = preferenceStore;
+    updateFilters();
+    preferenceStore.addPropertyChangeListener(preferenceListener);
+  }
+
+  private void updateFilters() {
+    verbose = preferenceStore.getBoolean(SonarLintConsole.P_VERBOSE_OUTPUT);
+    analyzerOutput = preferenceStore.getBoolean(SonarLintConsole.P_ANALYZER_OUTPUT);
+  }
+
+  @Override
+  public void info(String msg, boolean fromAnalyzer) {
+    enqueue(Level.INFO, msg, fromAnalyzer);
+  }
+
+  @Override
+  public void error(String msg, boolean fromAnalyzer) {
+    enqueue(Level.ERROR, msg, fromAnalyzer);
+  }
+
+  @Override
+  public void debug(String msg, boolean fromAnalyzer) {
+    if (verbose) {
+      enqueue(Level.DEBUG, msg, fromAnalyzer);
+    }
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return verbose;
+  }
+
+  private void enqueue(Level level, String msg, boolean fromAnalyzer) {
+    var line = toLine(level, msg, fromAnalyzer, analyzerOutput);
+    if (line == null || !PlatformUI.isWorkbenchRunning()) {
+      return;
+    }
+    synchronized (pendingLines) {
+      if (pendingLines.size() >= MAX_PENDING_LINES) {
+        droppedLines++;
+      } else {
+        pendingLines.add(line);
+      }
+    }
+    if (flushScheduled.compareAndSet(false, true)) {
+      scheduler.schedule(() -> Display.getDefault().asyncExec(this::flush), FRAME_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * @return the line to queue, or null if the console would not display it. A missing Node.js error reported by an analyzer is
+   * always kept, as a line not coming from the analyzer, whatever the analyzer output setting.
+   */
+  @Nullable
+  static Line toLine(Level level, String msg, boolean fromAnalyzer, boolean analyzerOutput) {
+    if (level == Level.ERROR && isNodeCommandException(msg)) {
+      return new Line(level, msg, false, true);
+    }
+    if (fromAnalyzer && !analyzerOutput) {
+      return null;
+    }
+    return new Line(level, msg, fromAnalyzer, false);
+  }
+
+  private void flush() {
+    // Lines queued from now on will be written by the next flush
+    flushScheduled.set(false);
+    List<Line> lines;
+    long dropped;
+    synchronized (pendingLines) {
+      lines = new ArrayList<>(pendingLines);
+      pendingLines.clear();
+      dropped = droppedLines;
+      droppedLines = 0;
+    }
+    var console = SonarLintUiPlugin.getDefault().getSonarConsole();
+    var batch = new StringBuilder();
+    @Nullable
+    Line batchStart = null;
+    for (var line : lines) {
+      if (line.missingNode) {
+        write(console, batchStart, batch);
+        batchStart = null;
+        console.info(line.msg, false);
+        var popup = new MissingNodePopup();
+        popup.setFadingEnabled(false);
+        popup.setDelayClose(0L);
+        popup.open();
+        continue;
+      }
+      if (batchStart != null && (batchStart.level != line.level || batchStart.fromAnalyzer != line.fromAnalyzer)) {
+        write(console, batchStart, batch);
+        batchStart = null;
+      }
+      if (batchStart == null) {
+        batchStart = line;
+      } else {
+        batch.append('\n');
+      }
+      batch.append(line.msg);
+    }
+    write(console, batchStart, batch);
+    if (dropped > 0) {
+      console.error(dropped + " log lines were dropped because they were produced faster than the console could display them", false);
+    }
+  }
+
+  /**
+   * Consecutive lines of the same kind are written at once
+   */
+  private static void write(SonarLintConsole console, @Nullable Line batchStart, StringBuilder batch) {
+    if (batchStart == null) {
+      return;
+    }
+    var msg = batch.toString();
+    batch.setLength(0);
+    switch (batchStart.level) {
+      case ERROR:
+        console.error(msg, batchStart.fromAnalyzer);
+        break;
+      case DEBUG:
+        console.debug(msg, batchStart.fromAnalyzer);
+        break;
+      default:
+        console.info(msg, batchStart.fromAnalyzer);
+        break;
+    }
+  }
+
+  private static boolean isNodeCommandException(String msg) {
+    return msg.contains("NodeCommandException");
+  }
+
+  public void shutdown() {
+    preferenceStore.removePropertyChangeListener(preferenceListener);
+    scheduler.shutdown();
+  }
+
+}
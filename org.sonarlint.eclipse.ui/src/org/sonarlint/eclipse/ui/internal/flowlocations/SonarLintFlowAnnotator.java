@@ -22,12 +22,16 @@ package org.sonarlint.eclipse.ui.internal.flowlocations;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jface.text.DocumentEvent;
+import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.source.Annotation;
@@ -35,10 +39,10 @@ import org.eclipse.jface.text.source.IAnnotationModel;
 import org.eclipse.jface.text.source.IAnnotationModelExtension;
 import org.eclipse.ui.IPartListener2;
 import org.eclipse.ui.IWorkbenchPartReference;
-import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.texteditor.ITextEditor;
 import org.sonarlint.eclipse.core.internal.markers.MarkerFlow;
 import org.sonarlint.eclipse.core.internal.markers.MarkerFlowLocation;
+import org.sonarlint.eclipse.core.internal.markers.MarkerFlows;
 import org.sonarlint.eclipse.core.internal.markers.MarkerUtils;
 import org.sonarlint.eclipse.ui.internal.SonarLintUiPlugin;
 import org.sonarlint.eclipse.ui.internal.util.LocationsUtils;
@@ -109,42 +113,104 @@ public class SonarLintFlowAnnotator implements SonarLintMarkerSelectionListener,
     }
   };
 
+  /**
+   * Delay before checking if the locations touched by the last edits have been deleted, so that typing is not slowed down
+   */
+  private static final int DELETED_LOCATIONS_CHECK_DELAY_MS = 300;
+
   private final ITextEditor textEditor;
+  private final IDocument document;
+  private final IDocumentListener documentListener = new IDocumentListener() {
+
+    @Override
+    public void documentAboutToBeChanged(DocumentEvent event) {
+      // Positions are not updated yet, so they can be compared to the replaced region
+      watchedLocations.forEach((location, position) -> {
+        if (!position.isDeleted() && position.overlapsWith(event.getOffset(), event.getLength())) {
+          editedLocations.add(location);
+        }
+      });
+      // Rescheduling the same runnable postpones the check until typing pauses
+      textEditor.getSite().getShell().getDisplay().timerExec(DELETED_LOCATIONS_CHECK_DELAY_MS, checkDeletedLocations);
+    }
+
+    @Override
+    public void documentChanged(DocumentEvent event) {
+      // Nothing to do
+    }
+  };
+  private final Runnable checkDeletedLocations = this::checkDeletedLocations;
+
+  // Flow locations of the selected issue that are in this editor, with their position in the annotation model. Only accessed from the UI thread.
+  @Nullable
+  private MarkerFlows watchedFlows;
+  private Map<MarkerFlowLocation, Position> watchedLocations = emptyMap();
+  private final Set<MarkerFlowLocation> editedLocations = new HashSet<>();
 
   public SonarLintFlowAnnotator(ITextEditor textEditor) {
     this.textEditor = textEditor;
-    var doc = textEditor.getDocumentProvider().getDocument(textEditor.getEditorInput());
-    doc.addDocumentListener(new IDocumentListener() {
-
-      @Override
-      public void documentChanged(DocumentEvent event) {
-        SonarLintUiPlugin.getSonarlintMarkerSelectionService().getLastSelectedMarker().ifPresent(selectedMarker -> {
-          var issueFlows = MarkerUtils.getIssueFlows(selectedMarker);
-          var view = (IssueLocationsView) PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage().findView(IssueLocationsView.ID);
-          issueFlows.allLocationsAsStream().forEach(l -> {
-            var markerPosition = LocationsUtils.getMarkerPosition(l.getMarker(), textEditor);
-            if (markerPosition != null && markerPosition.isDeleted() != l.isDeleted()) {
-              l.setDeleted(markerPosition.isDeleted());
-              if (view != null) {
-                view.refreshLabel(l);
-              }
-            }
-          });
-        });
-      }
-
-      @Override
-      public void documentAboutToBeChanged(DocumentEvent event) {
-        // Nothing to do
-      }
-    });
+    this.document = textEditor.getDocumentProvider().getDocument(textEditor.getEditorInput());
+    document.addDocumentListener(documentListener);
     updateFlowAnnotations(textEditor);
+    updateWatchedLocations();
     SonarLintUiPlugin.getSonarlintMarkerSelectionService().addMarkerSelectionListener(this);
     SonarLintUiPlugin.getSonarlintMarkerSelectionService().addFlowSelectionListener(this);
     SonarLintUiPlugin.getSonarlintMarkerSelectionService().addFlowLocationSelectionListener(this);
   }
 
+  private void updateWatchedLocations() {
+    var issueFlows = SonarLintUiPlugin.getSonarlintMarkerSelectionService().getLastSelectedMarker().map(MarkerUtils::getIssueFlows).orElse(null);
+    if (issueFlows == watchedFlows) {
+      return;
+    }
+    watchedFlows = issueFlows;
+    editedLocations.clear();
+    if (issueFlows == null || issueFlows.isEmpty()) {
+      watchedLocations = emptyMap();
+      return;
+    }
+    var locationsByMarker = new HashMap<IMarker, MarkerFlowLocation>();
+    issueFlows.allLocationsAsStream().forEach(l -> {
+      var marker = l.getMarker();
+      if (marker != null) {
+        locationsByMarker.put(marker, l);
+      }
+    });
+    var newWatchedLocations = new HashMap<MarkerFlowLocation, Position>();
+    LocationsUtils.getMarkerPositions(locationsByMarker.keySet(), textEditor)
+      .forEach((marker, position) -> newWatchedLocations.put(locationsByMarker.get(marker), position));
+    watchedLocations = newWatchedLocations;
+    // Locations may have been deleted while another issue was selected
+    editedLocations.addAll(newWatchedLocations.keySet());
+  }
+
+  private void checkDeletedLocations() {
+    if (textEditor.getSite().getShell().isDisposed()) {
+      return;
+    }
+    updateWatchedLocations();
+    if (editedLocations.isEmpty()) {
+      return;
+    }
+    var view = (IssueLocationsView) textEditor.getSite().getPage().findView(IssueLocationsView.ID);
+    for (var location : editedLocations) {
+      var position = watchedLocations.get(location);
+      if (position != null && position.isDeleted() != location.isDeleted()) {
+        location.setDeleted(position.isDeleted());
+        if (view != null) {
+          view.refreshLabel(location);
+        }
+      }
+    }
+    editedLocations.clear();
+  }
+
   protected void dispose() {
+    document.removeDocumentListener(documentListener);
+    var display = textEditor.getSite().getShell().getDisplay();
+    if (!display.isDisposed()) {
+      display.timerExec(-1, checkDeletedLocations);
+    }
     SonarLintUiPlugin.getSonarlintMarkerSelectionService().removeMarkerSelectionListener(this);
     SonarLintUiPlugin.getSonarlintMarkerSelectionService().removeFlowSelectionListener(this);
     SonarLintUiPlugin.getSonarlintMarkerSelectionService().removeFlowLocationSelectionListener(this);
@@ -153,6 +219,7 @@ public class SonarLintFlowAnnotator implements SonarLintMarkerSelectionListener,
   @Override
   public void markerSelected(Optional<IMarker> marker) {
     updateFlowAnnotations(textEditor);
+    updateWatchedLocations();
   }
 
   @Override
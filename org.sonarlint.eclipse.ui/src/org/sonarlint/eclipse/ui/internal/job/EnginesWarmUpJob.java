@@ -0,0 +1,81 @@
+/*
+ * SonarLint for Eclipse
+ * Copyright (C) 2015-2023 SonarSource SA
+ * sonarlint@sonarsource.com
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonarlint.eclipse.ui.internal.job;
+
+import java.util.LinkedHashSet;
+import java.util.function.BooleanSupplier;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.sonarlint.eclipse.core.SonarLintLogger;
+import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
+import org.sonarlint.eclipse.core.internal.engine.connected.IConnectedEngineFacade;
+import org.sonarlint.eclipse.core.internal.resources.ProjectsProviderUtils;
+
+/**
+ * Start in background, and in parallel, the engines that will be needed to analyze open projects, so that the first analysis
+ * doesn't have to wait for plugins to be loaded. Only engines actually used by an open project are started.
+ */
+public class EnginesWarmUpJob extends Job {
+
+  private final String engineName;
+  private final BooleanSupplier warmUp;
+
+  private EnginesWarmUpJob(String engineName, BooleanSupplier warmUp) {
+    super("Start " + engineName);
+    this.engineName = engineName;
+    this.warmUp = warmUp;
+    setPriority(DECORATE);
+    setSystem(true);
+  }
+
+  public static void scheduleForOpenProjects() {
+    var standaloneNeeded = false;
+    var connections = new LinkedHashSet<IConnectedEngineFacade>();
+    for (var project : ProjectsProviderUtils.allProjects()) {
+      if (!project.isOpen()) {
+        continue;
+      }
+      var binding = SonarLintCorePlugin.getServersManager().resolveBinding(project);
+      if (binding.isPresent()) {
+        connections.add(binding.get().getEngineFacade());
+      } else if (SonarLintCorePlugin.loadConfig(project).isAutoEnabled()) {
+        standaloneNeeded = true;
+      }
+    }
+    if (standaloneNeeded) {
+      new EnginesWarmUpJob("standalone SonarLint engine", SonarLintCorePlugin.getInstance().getDefaultSonarLintClientFacade()::warmUp).schedule();
+    }
+    for (var connection : connections) {
+      new EnginesWarmUpJob("SonarLint engine for connection '" + connection.getId() + "'", connection::warmUp).schedule();
+    }
+  }
+
+  @Override
+  protected IStatus run(IProgressMonitor monitor) {
+    var start = System.currentTimeMillis();
+    if (warmUp.getAsBoolean()) {
+      SonarLintLogger.get().info("Started " + engineName + " in " + (System.currentTimeMillis() - start) + " ms (warm-up)");
+    }
+    return Status.OK_STATUS;
+  }
+
+}
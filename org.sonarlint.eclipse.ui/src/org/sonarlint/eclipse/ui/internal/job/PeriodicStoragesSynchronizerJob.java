@@ -23,12 +23,11 @@ import java.util.Set;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
-import org.sonarlint.eclipse.core.SonarLintLogger;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.TriggerType;
 import org.sonarlint.eclipse.core.internal.engine.connected.IConnectedEngineFacade;
+import org.sonarlint.eclipse.core.internal.engine.connected.ParallelSynchronizer;
 import org.sonarlint.eclipse.core.internal.preferences.SonarLintProjectConfiguration;
 import org.sonarlint.eclipse.core.internal.utils.StringUtils;
 import org.sonarlint.eclipse.core.resource.ISonarLintFile;
@@ -49,32 +48,35 @@ public class PeriodicStoragesSynchronizerJob extends Job {
   @Override
   protected IStatus run(IProgressMonitor monitor) {
     try {
-      var subMonitor = SubMonitor.convert(monitor, SonarLintCorePlugin.getServersManager().getServers().size());
-      subMonitor.setTaskName("Checking SonarLint Binding Updates");
-      for (final var connection : SonarLintCorePlugin.getServersManager().getServers()) {
-        subMonitor.subTask("Checking SonarLint Binding Updates for connection '" + connection.getId() + "'");
-        var serverMonitor = subMonitor.newChild(1);
-
-        try {
-          Set<String> boundProjectKeys = connection.getBoundProjectKeys();
-          connection.autoSync(boundProjectKeys, serverMonitor);
-          AnalysisJobsScheduler.scheduleAnalysisOfOpenFiles((ISonarLintProject) null, TriggerType.BINDING_CHANGE, f -> isBoundToConnection(f, connection));
-          // TODO Refresh taints
-        } catch (Exception e) {
-          SonarLintLogger.get().error("Unable to synchronize local storage for connection '" + connection.getId() + "'", e);
-        }
-
-        serverMonitor.done();
-      }
+      monitor.setTaskName("Checking SonarLint Binding Updates");
+      // Connections are independent, synchronize them concurrently
+      ParallelSynchronizer.runAll(SonarLintCorePlugin.getServersManager().getServers(),
+        connection -> "Unable to synchronize local storage for connection '" + connection.getId() + "'",
+        PeriodicStoragesSynchronizerJob::syncConnection,
+        monitor);
       return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
     } finally {
       schedule(syncPeriod * 1000);
     }
   }
 
-  private static boolean isBoundToConnection(ISonarLintFile f, IConnectedEngineFacade facade) {
+  private static void syncConnection(IConnectedEngineFacade connection, IProgressMonitor monitor) {
+    Set<String> boundProjectKeys = connection.getBoundProjectKeys();
+    // Don't start an engine (and load all its analyzers) for a connection that no open project is using
+    if (!boundProjectKeys.isEmpty()) {
+      var syncedProjectKeys = connection.autoSyncIfChanged(boundProjectKeys, monitor);
+      if (!syncedProjectKeys.isEmpty()) {
+        AnalysisJobsScheduler.scheduleAnalysisOfOpenFiles((ISonarLintProject) null, TriggerType.BINDING_CHANGE,
+          f -> isBoundToProject(f, connection, syncedProjectKeys));
+      }
+      // TODO Refresh taints
+    }
+  }
+
+  private static boolean isBoundToProject(ISonarLintFile f, IConnectedEngineFacade facade, Set<String> projectKeys) {
     SonarLintProjectConfiguration config = SonarLintCorePlugin.loadConfig(f.getProject());
-    return config.isBound() && facade.getId().equals(config.getProjectBinding().get().connectionId());
+    return config.isBound() && facade.getId().equals(config.getProjectBinding().get().connectionId())
+      && projectKeys.contains(config.getProjectBinding().get().projectKey());
   }
 
 }
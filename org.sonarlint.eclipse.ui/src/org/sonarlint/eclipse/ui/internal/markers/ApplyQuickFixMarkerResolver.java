@@ -41,6 +41,7 @@ import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
 import org.sonarlint.eclipse.core.internal.TriggerType;
 import org.sonarlint.eclipse.core.internal.jobs.AnalyzeProjectRequest;
 import org.sonarlint.eclipse.core.internal.jobs.AnalyzeProjectRequest.FileWithDocument;
+import org.sonarlint.eclipse.core.internal.markers.MarkerResolutionsDescriptor.QuickFixDescriptor;
 import org.sonarlint.eclipse.core.internal.markers.MarkerUtils;
 import org.sonarlint.eclipse.core.internal.quickfixes.MarkerQuickFix;
 import org.sonarlint.eclipse.core.internal.quickfixes.MarkerTextEdit;
@@ -51,9 +52,9 @@ import org.sonarlint.eclipse.ui.internal.util.LocationsUtils;
 
 public class ApplyQuickFixMarkerResolver extends SortableMarkerResolver {
 
-  private final MarkerQuickFix fix;
+  private final QuickFixDescriptor fix;
 
-  public ApplyQuickFixMarkerResolver(MarkerQuickFix fix, int relevance) {
+  public ApplyQuickFixMarkerResolver(QuickFixDescriptor fix, int relevance) {
     super(relevance);
     this.fix = fix;
   }
@@ -76,8 +77,9 @@ public class ApplyQuickFixMarkerResolver extends SortableMarkerResolver {
     }
     Display.getDefault().asyncExec(() -> {
       var openEditor = openEditor(file, marker);
-      if (fix.isValid()) {
-        var document = applyIn(openEditor, fix);
+      var markerQuickFix = fix.decode(marker);
+      if (markerQuickFix != null && markerQuickFix.isValid()) {
+        var document = applyIn(openEditor, markerQuickFix);
         SonarLintCorePlugin.getTelemetry().addQuickFixAppliedForRule(MarkerUtils.getRuleKey(marker).toString());
         scheduleAnalysis(new FileWithDocument(file, document));
       } else {
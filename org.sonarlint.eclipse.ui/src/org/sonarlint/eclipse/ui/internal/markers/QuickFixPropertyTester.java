@@ -43,7 +43,7 @@ public class QuickFixPropertyTester extends PropertyTester {
       IMarker marker = markerItem.getMarker();
       // SLE-482 marker can be null for category rows when grouping by severity for example
       if (marker != null) {
-        return !MarkerUtils.getIssueQuickFixes(marker).getQuickFixes().isEmpty();
+        return MarkerUtils.hasIssueQuickFixes(marker);
       }
     }
     return false;
@@ -21,7 +21,6 @@ package org.sonarlint.eclipse.ui.internal.markers;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.swt.graphics.Image;
-import org.sonarlint.eclipse.core.internal.markers.MarkerUtils;
 import org.sonarlint.eclipse.ui.internal.SonarLintImages;
 import org.sonarlint.eclipse.ui.internal.SonarLintUiPlugin;
 
@@ -31,11 +30,11 @@ public class ShowHideIssueFlowsMarkerResolver extends SortableMarkerResolver {
   private final boolean alreadySelected;
   private final boolean isSecondaryLocation;
 
-  public ShowHideIssueFlowsMarkerResolver(IMarker marker, int relevance) {
+  public ShowHideIssueFlowsMarkerResolver(IMarker marker, boolean isSecondaryLocation, int relevance) {
     super(relevance);
     this.marker = marker;
     this.alreadySelected = marker.equals(SonarLintUiPlugin.getSonarlintMarkerSelectionService().getLastSelectedMarker().orElse(null));
-    isSecondaryLocation = MarkerUtils.getIssueFlows(marker).isSecondaryLocations();
+    this.isSecondaryLocation = isSecondaryLocation;
   }
 
   @Override
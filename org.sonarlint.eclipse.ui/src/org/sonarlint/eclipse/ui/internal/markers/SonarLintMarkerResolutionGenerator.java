@@ -28,8 +28,8 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.ui.IMarkerResolution;
 import org.eclipse.ui.IMarkerResolutionGenerator2;
 import org.sonarlint.eclipse.core.internal.SonarLintCorePlugin;
+import org.sonarlint.eclipse.core.internal.markers.MarkerResolutionsDescriptor;
 import org.sonarlint.eclipse.core.internal.markers.MarkerUtils;
-import org.sonarlint.eclipse.core.internal.quickfixes.MarkerQuickFix;
 import org.sonarlint.eclipse.core.internal.utils.CompatibilityUtils;
 import org.sonarlint.eclipse.core.resource.ISonarLintFile;
 import org.sonarlint.eclipse.ui.internal.extension.SonarLintUiExtensionTracker;
@@ -53,18 +53,23 @@ public class SonarLintMarkerResolutionGenerator implements IMarkerResolutionGene
   @Override
   public IMarkerResolution[] getResolutions(final IMarker marker) {
     var resolutions = new ArrayList<SortableMarkerResolver>();
+    // Precomputed when the marker was created, nothing to decode here
+    var descriptor = MarkerUtils.getIssueResolutions(marker);
+    var sonarLintFile = Adapters.adapt(marker.getResource(), ISonarLintFile.class);
 
     // note: the display order is independent from the order in this list (see https://bugs.eclipse.org/bugs/show_bug.cgi?id=232383)
 
-    resolutions.addAll(getQuickFixesResolutions(marker));
+    if (sonarLintFile != null) {
+      resolutions.addAll(getQuickFixesResolutions(marker, descriptor));
+    }
 
-    if (hasExtraLocations(marker)) {
-      resolutions.add(new ShowHideIssueFlowsMarkerResolver(marker, RESOLUTION_RELEVANCE_LOWER_BOUND - 1));
+    if (descriptor.hasFlows()) {
+      resolutions.add(new ShowHideIssueFlowsMarkerResolver(marker, descriptor.isSecondaryLocations(), RESOLUTION_RELEVANCE_LOWER_BOUND - 1));
     }
 
     resolutions.add(new ShowRuleDescriptionMarkerResolver(marker, RESOLUTION_RELEVANCE_LOWER_BOUND - 2));
 
-    if (isStandaloneIssue(marker)) {
+    if (sonarLintFile != null && isStandaloneIssue(sonarLintFile)) {
       resolutions.add(new DeactivateRuleMarkerResolver(marker, RESOLUTION_RELEVANCE_LOWER_BOUND - 3));
     }
 
@@ -75,10 +80,10 @@ public class SonarLintMarkerResolutionGenerator implements IMarkerResolutionGene
       .toArray(new IMarkerResolution[resolutions.size()]);
   }
 
-  private static List<SortableMarkerResolver> getQuickFixesResolutions(IMarker marker) {
-    return MarkerUtils.getIssueQuickFixes(marker).getQuickFixes()
+  private static List<SortableMarkerResolver> getQuickFixesResolutions(IMarker marker, MarkerResolutionsDescriptor descriptor) {
+    return descriptor.getQuickFixes()
       .stream()
-      .filter(MarkerQuickFix::isValid)
+      .filter(fix -> fix.isValid(marker))
       .map(fix -> new ApplyQuickFixMarkerResolver(fix, RESOLUTION_RELEVANCE_HIGHER_BOUND + 1))
       .collect(toList());
   }
@@ -106,17 +111,8 @@ public class SonarLintMarkerResolutionGenerator implements IMarkerResolutionGene
     }
   }
 
-  private static boolean hasExtraLocations(IMarker marker) {
-    return !MarkerUtils.getIssueFlows(marker).isEmpty();
-  }
-
-  private static boolean isStandaloneIssue(IMarker marker) {
-    var sonarLintFile = Adapters.adapt(marker.getResource(), ISonarLintFile.class);
-    if (sonarLintFile == null) {
-      return false;
-    }
-
-    return !SonarLintCorePlugin.loadConfig(sonarLintFile.getProject()).isBound();
+  private static boolean isStandaloneIssue(ISonarLintFile sonarLintFile) {
+    return !SonarLintCorePlugin.loadCachedConfig(sonarLintFile.getProject()).isBound();
   }
 
 }
@@ -25,8 +25,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.ComboFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.preference.StringButtonFieldEditor;
 import org.eclipse.jface.preference.StringFieldEditor;
 import org.eclipse.swt.SWT;
@@ -74,6 +76,10 @@ public class SonarLintPreferencePage extends FieldEditorPreferencePage implement
     addField(new StringFieldEditor(SonarLintGlobalConfiguration.PREF_TEST_FILE_REGEXPS,
       Messages.SonarPreferencePage_label_test_file_regexps, getFieldEditorParent()));
     addField(new NodeJsField(getFieldEditorParent()));
+    addField(new BooleanFieldEditor(SonarLintGlobalConfiguration.PREF_ENGINES_WARM_UP,
+      Messages.SonarPreferencePage_label_engines_warm_up, getFieldEditorParent()));
+    addField(new IntegerFieldEditor(SonarLintGlobalConfiguration.PREF_ENGINES_IDLE_TIMEOUT,
+      Messages.SonarPreferencePage_label_engines_idle_timeout, getFieldEditorParent()));
   }
 
   private static class NodeJsField extends StringButtonFieldEditor {
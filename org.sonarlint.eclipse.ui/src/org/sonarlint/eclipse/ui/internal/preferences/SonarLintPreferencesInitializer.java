@@ -36,6 +36,8 @@ public class SonarLintPreferencesInitializer extends AbstractPreferenceInitializ
     node.putInt(SonarLintGlobalConfiguration.PREF_MARKER_SEVERITY, SonarLintGlobalConfiguration.PREF_MARKER_SEVERITY_DEFAULT);
     node.put(SonarLintGlobalConfiguration.PREF_EXTRA_ARGS, SonarLintGlobalConfiguration.PREF_DEFAULT);
     node.put(SonarLintGlobalConfiguration.PREF_TEST_FILE_REGEXPS, SonarLintGlobalConfiguration.PREF_TEST_FILE_REGEXPS_DEFAULT);
+    node.putBoolean(SonarLintGlobalConfiguration.PREF_ENGINES_WARM_UP, false);
+    node.putInt(SonarLintGlobalConfiguration.PREF_ENGINES_IDLE_TIMEOUT, SonarLintGlobalConfiguration.PREF_ENGINES_IDLE_TIMEOUT_DEFAULT);
   }
 
 }
@@ -19,18 +19,22 @@
  */
 package org.sonarlint.eclipse.ui.internal.util;
 
-import java.util.stream.Stream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.IAnnotationModelExtension2;
 import org.eclipse.ui.IEditorInput;
 import org.eclipse.ui.IFileEditorInput;
 import org.eclipse.ui.PartInitException;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.texteditor.AbstractMarkerAnnotationModel;
 import org.eclipse.ui.texteditor.ITextEditor;
+import org.eclipse.ui.texteditor.MarkerAnnotation;
 import org.sonarlint.eclipse.core.SonarLintLogger;
-import org.sonarlint.eclipse.core.internal.markers.MarkerFlowLocation;
 
 public class LocationsUtils {
 
@@ -78,7 +82,31 @@ public class LocationsUtils {
     return null;
   }
 
-  public static boolean hasAtLeastOneLocationOnTheSameResourceThanEditor(Stream<MarkerFlowLocation> allFlowLocations, IFileEditorInput editorInput) {
-    return allFlowLocations.map(MarkerFlowLocation::getMarker).filter(m -> m != null && m.exists()).map(IMarker::getResource).anyMatch(r -> r.equals(editorInput.getFile()));
+  /**
+   * Same as {@link #getMarkerPosition(IMarker, ITextEditor)} for several markers, but going through the annotations of the editor only
+   * once. Markers whose position is deleted or unknown are not part of the result.
+   */
+  public static Map<IMarker, Position> getMarkerPositions(Collection<IMarker> markers, ITextEditor textEditor) {
+    var model = textEditor.getDocumentProvider().getAnnotationModel(textEditor.getEditorInput());
+    if (markers.isEmpty() || !(model instanceof AbstractMarkerAnnotationModel)) {
+      return Map.of();
+    }
+    var wanted = new HashSet<>(markers);
+    var result = new HashMap<IMarker, Position>();
+    // Unlike getAnnotationIterator(), this one doesn't clean up annotations having a deleted position
+    var annotations = ((IAnnotationModelExtension2) model).getAnnotationIterator(0, Integer.MAX_VALUE, true, true);
+    while (annotations.hasNext() && result.size() < wanted.size()) {
+      var annotation = annotations.next();
+      if (annotation instanceof MarkerAnnotation) {
+        var marker = ((MarkerAnnotation) annotation).getMarker();
+        if (wanted.contains(marker)) {
+          var position = model.getPosition(annotation);
+          if (position != null && !position.isDeleted()) {
+            result.put(marker, position);
+          }
+        }
+      }
+    }
+    return result;
   }
 }
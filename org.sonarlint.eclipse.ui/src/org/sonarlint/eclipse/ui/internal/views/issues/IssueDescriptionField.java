@@ -62,8 +62,7 @@ public class IssueDescriptionField extends MarkerField {
     var marker = item.getMarker();
     // When grouping by severity, MarkerItem will be a MarkerCategory, that doesn't have an attached marker
     if (marker != null) {
-      var issueFlows = MarkerUtils.getIssueFlows(marker);
-      sb.append(issueFlows.getSummaryDescription());
+      sb.append(MarkerUtils.getIssueFlowsSummaryDescription(marker));
     }
     return sb.toString();
   }
@@ -24,17 +24,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Stream;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.Separator;
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
 import org.eclipse.jface.viewers.IStructuredSelection;
-import org.eclipse.jface.viewers.ITreeContentProvider;
-import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.jface.viewers.StyledCellLabelProvider;
 import org.eclipse.jface.viewers.StyledString;
 import org.eclipse.jface.viewers.StyledString.Styler;
+import org.eclipse.jface.viewers.TreePath;
+import org.eclipse.jface.viewers.TreeSelection;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerCell;
@@ -57,8 +57,8 @@ import org.sonarlint.eclipse.ui.internal.SonarLintImages;
 import org.sonarlint.eclipse.ui.internal.SonarLintUiPlugin;
 import org.sonarlint.eclipse.ui.internal.flowlocations.SonarLintMarkerSelectionListener;
 
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
-import static org.eclipse.jface.viewers.AbstractTreeViewer.ALL_LEVELS;
 
 /**
  * Display details of a rule in a web browser
@@ -69,18 +69,60 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
 
   private TreeViewer locationsViewer;
 
+  private LocationsProvider locationsProvider;
+
   private ToggleAnnotationsAction showAnnotationsAction;
 
-  private interface LocationNode {
-    boolean isValid();
+  /**
+   * Nodes compute their children on first request, so that only the flows that are displayed are resolved
+   */
+  private abstract static class LocationNode {
+
+    @Nullable
+    private final Object parent;
+    @Nullable
+    private List<LocationNode> children;
+
+    protected LocationNode(@Nullable Object parent) {
+      this.parent = parent;
+    }
+
+    @Nullable
+    public Object getParent() {
+      return parent;
+    }
+
+    public List<LocationNode> getChildren() {
+      var result = children;
+      if (result == null) {
+        result = computeChildren();
+        children = result;
+      }
+      return result;
+    }
+
+    protected List<LocationNode> computeChildren() {
+      return emptyList();
+    }
+
+    /**
+     * Used to only look in the part of the tree that may hold the location when searching for it
+     */
+    protected boolean mayContain(MarkerFlowLocation location) {
+      return false;
+    }
+
+    public abstract boolean isValid();
+
   }
 
-  private static class FlowLocationNode implements LocationNode {
+  private static class FlowLocationNode extends LocationNode {
 
     private final String label;
     private final MarkerFlowLocation location;
 
-    public FlowLocationNode(MarkerFlowLocation location) {
+    public FlowLocationNode(Object parent, MarkerFlowLocation location) {
+      super(parent);
       this.label = location.getParent().getLocations().size() > 1 ? (location.getNumber() + ": " + location.getMessage()) : location.getMessage();
       this.location = location;
     }
@@ -93,6 +135,10 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
       return location;
     }
 
+    public boolean isLocation(MarkerFlowLocation other) {
+      return location.getParent().getNumber() == other.getParent().getNumber() && location.getNumber() == other.getNumber();
+    }
+
     @Override
     public boolean isValid() {
       var marker = location.getMarker();
@@ -113,35 +159,18 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
         return false;
       }
       FlowLocationNode other = (FlowLocationNode) obj;
-      return Objects.equals(location.getParent().getNumber(), other.location.getParent().getNumber()) && Objects.equals(location.getNumber(), other.location.getNumber());
+      return isLocation(other.location);
     }
 
   }
 
-  private static class FlowRootNode {
+  private static class FlowRootNode extends LocationNode {
 
-    private final List<LocationNode> children;
     private final MarkerFlow flow;
 
-    public FlowRootNode(MarkerFlow flow) {
+    public FlowRootNode(RootNode parent, MarkerFlow flow) {
+      super(parent);
       this.flow = flow;
-      if (flow.areAllLocationsInSameFile()) {
-        children = flow.getLocations().stream()
-          // SLE-388 - "Highlight-only" locations don't have a message
-          .filter(l -> !StringUtils.isEmpty(l.getMessage()))
-          .map(FlowLocationNode::new)
-          .collect(toList());
-      } else {
-        children = new ArrayList<>();
-        LocationFileGroupNode lastNode = null;
-        for (var location : flow.getLocations()) {
-          if (lastNode == null || !lastNode.getFilePath().equals(location.getFilePath())) {
-            lastNode = new LocationFileGroupNode(children.size(), location.getFilePath());
-            children.add(lastNode);
-          }
-          lastNode.addLocation(new FlowLocationNode(location));
-        }
-      }
     }
 
     public MarkerFlow getFlow() {
@@ -152,8 +181,19 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
       return "Flow " + flow.getNumber();
     }
 
-    public LocationNode[] getChildren() {
-      return children.toArray(new LocationNode[0]);
+    @Override
+    protected List<LocationNode> computeChildren() {
+      return createLocationNodes(this, flow);
+    }
+
+    @Override
+    protected boolean mayContain(MarkerFlowLocation location) {
+      return location.getParent().getNumber() == flow.getNumber();
+    }
+
+    @Override
+    public boolean isValid() {
+      return getChildren().stream().anyMatch(LocationNode::isValid);
     }
 
     @Override
@@ -175,37 +215,74 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
 
   }
 
-  private static class LocationFileGroupNode implements LocationNode {
+  private static List<LocationNode> createLocationNodes(LocationNode parent, MarkerFlow flow) {
+    if (flow.areAllLocationsInSameFile()) {
+      return flow.getLocations().stream()
+        // SLE-388 - "Highlight-only" locations don't have a message
+        .filter(l -> !StringUtils.isEmpty(l.getMessage()))
+        .map(l -> new FlowLocationNode(parent, l))
+        .collect(toList());
+    }
+    var children = new ArrayList<LocationNode>();
+    LocationFileGroupNode lastNode = null;
+    for (var location : flow.getLocations()) {
+      if (lastNode == null || !Objects.equals(lastNode.getFilePath(), location.getFilePath())) {
+        lastNode = new LocationFileGroupNode(parent, flow.getNumber(), children.size(), location.getFilePath());
+        children.add(lastNode);
+      }
+      lastNode.addLocation(location);
+    }
+    return children;
+  }
+
+  private static class LocationFileGroupNode extends LocationNode {
 
+    private final int flowNumber;
     private final int groupIndex;
     private final String filePath;
-    private List<FlowLocationNode> children = new ArrayList<>();
+    private final List<MarkerFlowLocation> locations = new ArrayList<>();
 
-    public LocationFileGroupNode(int groupIndex, String filePath) {
+    public LocationFileGroupNode(Object parent, int flowNumber, int groupIndex, String filePath) {
+      super(parent);
+      this.flowNumber = flowNumber;
       this.groupIndex = groupIndex;
       this.filePath = filePath;
     }
 
-    public void addLocation(FlowLocationNode flowLocationNode) {
-      children.add(flowLocationNode);
+    public void addLocation(MarkerFlowLocation location) {
+      locations.add(location);
     }
 
     public @Nullable String getFilePath() {
       return filePath;
     }
 
-    public List<FlowLocationNode> getChildren() {
-      return children;
+    public MarkerFlowLocation getFirstLocation() {
+      return locations.get(0);
+    }
+
+    @Override
+    protected List<LocationNode> computeChildren() {
+      return locations.stream().map(l -> new FlowLocationNode(this, l)).collect(toList());
+    }
+
+    @Override
+    protected boolean mayContain(MarkerFlowLocation location) {
+      // Locations may come from another decoding of the same flows, compare numbers like FlowLocationNode#isLocation
+      return location.getParent().getNumber() == flowNumber
+        && locations.stream().anyMatch(l -> l.getNumber() == location.getNumber());
     }
 
     @Override
     public boolean isValid() {
-      return children.get(0).isValid();
+      var location = getFirstLocation();
+      var marker = location.getMarker();
+      return marker != null && marker.exists() && !location.isDeleted();
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(filePath, groupIndex);
+      return Objects.hash(filePath, flowNumber, groupIndex);
     }
 
     @Override
@@ -213,21 +290,22 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
       if (this == obj) {
         return true;
       }
-      if (!(obj instanceof FlowRootNode)) {
+      if (!(obj instanceof LocationFileGroupNode)) {
         return false;
       }
       var other = (LocationFileGroupNode) obj;
-      return Objects.equals(filePath, other.filePath) && Objects.equals(groupIndex, other.groupIndex);
+      return Objects.equals(filePath, other.filePath) && flowNumber == other.flowNumber && groupIndex == other.groupIndex;
     }
 
   }
 
-  private static class RootNode {
+  private static class RootNode extends LocationNode {
 
     private final IMarker rootMarker;
     private final MarkerFlows flows;
 
     public RootNode(IMarker rootMarker, MarkerFlows flows) {
+      super(rootMarker);
       this.rootMarker = rootMarker;
       this.flows = flows;
     }
@@ -236,60 +314,132 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
       return rootMarker;
     }
 
-    public MarkerFlows getFlows() {
-      return flows;
+    @Override
+    protected List<LocationNode> computeChildren() {
+      if (flows.count() > 1) {
+        // Flatten if all flows have a single location
+        if (flows.isSecondaryLocations()) {
+          return flows.getFlows().stream().flatMap(f -> createLocationNodes(this, f).stream()).collect(toList());
+        } else {
+          return flows.getFlows().stream().map(f -> new FlowRootNode(this, f)).collect(toList());
+        }
+      } else if (flows.count() == 1) {
+        // Don't show flow number
+        return createLocationNodes(this, flows.getFlows().get(0));
+      } else {
+        return emptyList();
+      }
+    }
+
+    @Override
+    public boolean isValid() {
+      return rootMarker.exists();
+    }
+
+    @Nullable
+    public TreePath getPath(MarkerFlow flow) {
+      for (var child : getChildren()) {
+        if (child instanceof FlowRootNode && ((FlowRootNode) child).getFlow().getNumber() == flow.getNumber()) {
+          return new TreePath(new Object[] {this, child});
+        }
+      }
+      return null;
+    }
+
+    @Nullable
+    public TreePath getPath(MarkerFlowLocation location) {
+      var segments = new ArrayList<Object>(List.of(this));
+      return collectPath(this, location, segments) ? new TreePath(segments.toArray()) : null;
+    }
+
+    private static boolean collectPath(LocationNode node, MarkerFlowLocation location, List<Object> segments) {
+      for (var child : node.getChildren()) {
+        if (child instanceof FlowLocationNode && ((FlowLocationNode) child).isLocation(location)) {
+          segments.add(child);
+          return true;
+        }
+        if (child.mayContain(location)) {
+          segments.add(child);
+          if (collectPath(child, location, segments)) {
+            return true;
+          }
+          segments.remove(segments.size() - 1);
+        }
+      }
+      return false;
     }
 
   }
 
-  private static class LocationsProvider implements ITreeContentProvider {
+  /**
+   * The tree is virtual: nodes are only created when their parent is expanded, and only materialized in the tree when they become
+   * visible, so that issues having many flows and locations don't freeze the view
+   */
+  private static class LocationsProvider implements ILazyTreeContentProvider {
+
+    private static final String NO_LOCATIONS = "No additional locations associated with this issue";
+
+    private final TreeViewer viewer;
+    @Nullable
+    private Object root;
+
+    LocationsProvider(TreeViewer viewer) {
+      this.viewer = viewer;
+    }
+
+    @Nullable
+    public RootNode getRootNode() {
+      return root instanceof RootNode ? (RootNode) root : null;
+    }
 
     @Override
-    public Object[] getElements(Object inputElement) {
-      var sonarlintMarker = (IMarker) inputElement;
-      var flowsMarkers = MarkerUtils.getIssueFlows(sonarlintMarker);
-      if (!flowsMarkers.isEmpty()) {
-        return new Object[] {new RootNode(sonarlintMarker, flowsMarkers)};
+    public void updateElement(Object parent, int index) {
+      Object element;
+      var currentRoot = root;
+      if (parent instanceof LocationNode) {
+        var children = ((LocationNode) parent).getChildren();
+        if (index >= children.size()) {
+          return;
+        }
+        element = children.get(index);
+      } else if (currentRoot != null && index == 0) {
+        element = currentRoot;
       } else {
-        return new Object[] {"No additional locations associated with this issue"};
+        return;
+      }
+      viewer.replace(parent, index, element);
+      if (element instanceof LocationNode) {
+        var childCount = ((LocationNode) element).getChildren().size();
+        viewer.setChildCount(element, childCount);
+        if (childCount > 0) {
+          // Everything is expanded, children will still only be materialized when visible
+          viewer.setExpandedState(element, true);
+        }
       }
     }
 
     @Override
-    public Object[] getChildren(Object parentElement) {
-      if (parentElement instanceof RootNode) {
-        var flows = ((RootNode) parentElement).getFlows();
-        if (flows.count() > 1) {
-          // Flatten if all flows have a single location
-          if (flows.isSecondaryLocations()) {
-            return flows.getFlows().stream().map(FlowRootNode::new).flatMap(f -> Stream.of(f.getChildren())).toArray();
-          } else {
-            return flows.getFlows().stream().map(FlowRootNode::new).toArray();
-          }
-        } else if (flows.count() == 1) {
-          // Don't show flow number
-          return new FlowRootNode(flows.getFlows().get(0)).getChildren();
-        } else {
-          return new Object[0];
-        }
-      } else if (parentElement instanceof FlowRootNode) {
-        return ((FlowRootNode) parentElement).getChildren();
-      } else if (parentElement instanceof LocationFileGroupNode) {
-        return ((LocationFileGroupNode) parentElement).getChildren().toArray();
+    public void updateChildCount(Object element, int currentChildCount) {
+      int count;
+      if (element instanceof LocationNode) {
+        count = ((LocationNode) element).getChildren().size();
+      } else if (element instanceof IMarker) {
+        count = root != null ? 1 : 0;
       } else {
-        return new Object[0];
+        count = 0;
+      }
+      if (count != currentChildCount) {
+        viewer.setChildCount(element, count);
       }
     }
 
     @Nullable
     @Override
     public Object getParent(Object element) {
-      return null;
-    }
-
-    @Override
-    public boolean hasChildren(Object element) {
-      return getChildren(element).length > 0;
+      if (element instanceof LocationNode) {
+        return ((LocationNode) element).getParent();
+      }
+      return element == root ? viewer.getInput() : null;
     }
 
     @Override
@@ -298,8 +448,14 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
     }
 
     @Override
-    public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
-      // Do nothing
+    public void inputChanged(Viewer viewer, @Nullable Object oldInput, @Nullable Object newInput) {
+      if (newInput instanceof IMarker) {
+        var sonarlintMarker = (IMarker) newInput;
+        var flowsMarkers = MarkerUtils.getIssueFlows(sonarlintMarker);
+        root = flowsMarkers.isEmpty() ? NO_LOCATIONS : new RootNode(sonarlintMarker, flowsMarkers);
+      } else {
+        root = null;
+      }
     }
 
   }
@@ -350,14 +506,8 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
     }
 
     private static boolean isValidLocation(Object element) {
-      if (element instanceof RootNode) {
-        return ((RootNode) element).getMarker().exists();
-      } else if (element instanceof FlowRootNode) {
-        return Stream.of(((FlowRootNode) element).getChildren()).anyMatch(LocationNode::isValid);
-      } else if (element instanceof FlowLocationNode) {
-        return ((FlowLocationNode) element).isValid();
-      } else if (element instanceof LocationFileGroupNode) {
-        return ((LocationFileGroupNode) element).isValid();
+      if (element instanceof LocationNode) {
+        return ((LocationNode) element).isValid();
       } else if (element instanceof String) {
         return true;
       }
@@ -383,11 +533,11 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
   @Override
   public void createPartControl(Composite parent) {
     createToolbar();
-    var tree = new Tree(parent, SWT.SINGLE);
+    var tree = new Tree(parent, SWT.SINGLE | SWT.VIRTUAL);
     locationsViewer = new TreeViewer(tree);
-    locationsViewer.setAutoExpandLevel(ALL_LEVELS);
     locationsViewer.setUseHashlookup(true);
-    locationsViewer.setContentProvider(new LocationsProvider());
+    locationsProvider = new LocationsProvider(locationsViewer);
+    locationsViewer.setContentProvider(locationsProvider);
     locationsViewer.setLabelProvider(new LocationsTreeLabelProvider());
     locationsViewer.addPostSelectionChangedListener(
 
@@ -425,7 +575,7 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
     } else if (selectedNode instanceof FlowLocationNode) {
       SonarLintUiPlugin.getSonarlintMarkerSelectionService().flowLocationSelected(((FlowLocationNode) selectedNode).getLocation());
     } else if (selectedNode instanceof LocationFileGroupNode) {
-      SonarLintUiPlugin.getSonarlintMarkerSelectionService().flowLocationSelected(((LocationFileGroupNode) selectedNode).getChildren().get(0).getLocation());
+      SonarLintUiPlugin.getSonarlintMarkerSelectionService().flowLocationSelected(((LocationFileGroupNode) selectedNode).getFirstLocation());
     } else if (selectedNode instanceof String) {
       // No secondary locations: nothing to react upon
     } else {
@@ -439,7 +589,7 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
     if (node instanceof FlowLocationNode) {
       location = ((FlowLocationNode) node).getLocation();
     } else if (node instanceof LocationFileGroupNode) {
-      location = ((LocationFileGroupNode) node).getChildren().get(0).getLocation();
+      location = ((LocationFileGroupNode) node).getFirstLocation();
     }
     if (location != null) {
       var flowMarker = location.getMarker();
@@ -502,15 +652,32 @@ public class IssueLocationsView extends ViewPart implements SonarLintMarkerSelec
   }
 
   public void selectLocation(MarkerFlowLocation location) {
-    locationsViewer.setSelection(new StructuredSelection(new FlowLocationNode(location)), true);
+    var rootNode = locationsProvider.getRootNode();
+    var path = rootNode != null ? rootNode.getPath(location) : null;
+    if (path != null) {
+      locationsViewer.setSelection(new TreeSelection(path), true);
+    }
   }
 
   public void selectFlow(MarkerFlow flow) {
-    locationsViewer.setSelection(new StructuredSelection(new FlowRootNode(flow)), true);
+    var rootNode = locationsProvider.getRootNode();
+    var path = rootNode != null ? rootNode.getPath(flow) : null;
+    if (path != null) {
+      locationsViewer.setSelection(new TreeSelection(path), true);
+    }
   }
 
   public void refreshLabel(MarkerFlowLocation location) {
-    locationsViewer.refresh(new FlowLocationNode(location));
+    var rootNode = locationsProvider.getRootNode();
+    var path = rootNode != null ? rootNode.getPath(location) : null;
+    if (path != null) {
+      // Validity of the parent nodes depends on their locations. Nodes that are not materialized yet are ignored.
+      var nodes = new Object[path.getSegmentCount()];
+      for (var i = 0; i < nodes.length; i++) {
+        nodes[i] = path.getSegment(i);
+      }
+      locationsViewer.update(nodes, null);
+    }
   }
 
 }